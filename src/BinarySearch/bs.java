@@ -84,6 +84,41 @@ public class bs {
         return -1;
     }
 
+    /**
+     * Insertion points on a sorted range arr[from, to) (the "where would target go" form of search).
+     * Intuition: same halving as search, but instead of stopping on equality we keep going
+     * so the boundary between "< target" / ">= target" (lowerBound) or
+     * "<= target" / "> target" (upperBound) is found.
+     * upperBound puts a new element after its equals -> used by stable insertion sort.
+     * Time Complexity: O(log n)
+     * Space Complexity: O(1)
+     */
+    public static int lowerBound(int[] arr, int from, int to, int target) {
+        int i = from, j = to;
+        while (i < j) {
+            int mid = i + (j - i) / 2;
+            if (arr[mid] < target) {
+                i = mid + 1; // eliminate left half
+            } else {
+                j = mid; // mid may be the answer
+            }
+        }
+        return i;
+    }
+
+    public static int upperBound(int[] arr, int from, int to, int target) {
+        int i = from, j = to;
+        while (i < j) {
+            int mid = i + (j - i) / 2;
+            if (arr[mid] <= target) {
+                i = mid + 1;
+            } else {
+                j = mid;
+            }
+        }
+        return i;
+    }
+
     public static void main(String[] args) {
         int[] arr = {1, 3, 5, 6, 7, 10, 12, 15};
         int[] nums = {5, 7, 7, 8, 8, 9, 9};
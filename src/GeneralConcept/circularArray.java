@@ -1,7 +1,8 @@
 package GeneralConcept;
 
+import Stack.IntStack;
+
 import java.util.Arrays;
-import java.util.Stack;
 
 /**
  * Circular Array Traversal - General Pattern
@@ -51,7 +52,7 @@ public class circularArray {
         int n = nums.length;
         int[] res = new int[n];
         Arrays.fill(res, -1); // Default values
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
 
         // Simulate circular traversal: 0 to 2n - 1
         for (int i = 0; i < 2 * n; i++) {
@@ -48,6 +48,16 @@ public class DLL {
 
     }
 
+    // O(1) once the node is known
+    public Node insertAfter(Node prev, int val) {
+        Node node = new Node(val);
+        node.next = prev.next;
+        node.prev = prev;
+        if (prev.next != null) prev.next.prev = node;
+        prev.next = node;
+        return node;
+    }
+
     public void insertAtEnd(int val) {
         Node node = new Node(val);
         if (head == null) {
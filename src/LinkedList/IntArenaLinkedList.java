@@ -0,0 +1,234 @@
+package LinkedList;
+
+import java.util.Arrays;
+
+/*
+ Arena-backed singly linked list of primitive ints
+
+ ➤ Motivation:
+    - Every MyLinkedList.Node is a heap object: ~16 bytes header + 4 byte int + 4/8 byte reference
+      -> ~24 bytes to hold a 4 byte value, and the GC has to trace every single node.
+    - Here a "node" is just a slot index into two parallel arrays:
+          vals[slot] -> value
+          next[slot] -> slot of the next node (NIL = -1 means null)
+      -> 8 bytes per node, and the GC sees only two arrays.
+
+ ➤ Free-list:
+    - Deleted slots are chained through next[] starting at freeHead and reused by the next add.
+    - Arrays only grow (doubling) when the free-list is empty, so once the list has reached its
+      working size no allocation happens at all.
+
+ ➤ Same operations as MyLinkedList:
+    get, addAtHead, addAtTail, addAtIndex, deleteAtIndex, reverseLL, mid, hasCycle, removeElements
+    Appends are O(1) via the tail slot, index operations are O(index).
+*/
+
+public class IntArenaLinkedList {
+
+    private static final int NIL = -1;
+
+    private int[] vals;
+    private int[] next;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+
+    private int freeHead = NIL; // first reusable slot, chained through next[]
+    private int used;           // slots [0, used) have been handed out at least once
+
+    public IntArenaLinkedList() {
+        this(16);
+    }
+
+    public IntArenaLinkedList(int capacity) {
+        vals = new int[Math.max(1, capacity)];
+        next = new int[vals.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Take a slot from the free-list, or from the untouched tail of the arena
+    private int allocate(int val) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == vals.length) {
+                int cap = vals.length * 2;
+                vals = Arrays.copyOf(vals, cap);
+                next = Arrays.copyOf(next, cap);
+            }
+            slot = used++;
+        }
+        vals[slot] = val;
+        next[slot] = NIL;
+        return slot;
+    }
+
+    // Give a slot back to the free-list
+    private void release(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private int slotAt(int index) {
+        if (index == size - 1) return tail;
+        int temp = head;
+        for (int i = 0; i < index; i++) temp = next[temp];
+        return temp;
+    }
+
+    // Get value at specific index
+    public int get(int index) {
+        if (index < 0 || index >= size) return -1;
+        return vals[slotAt(index)];
+    }
+
+    // Add node at head
+    public void addAtHead(int val) {
+        int slot = allocate(val);
+        next[slot] = head;
+        head = slot;
+        if (tail == NIL) tail = slot;
+        size++;
+    }
+
+    // Add node at tail -> O(1)
+    public void addAtTail(int val) {
+        int slot = allocate(val);
+        if (head == NIL) {
+            head = tail = slot;
+        } else {
+            next[tail] = slot;
+            tail = slot;
+        }
+        size++;
+    }
+
+    // Add at a specific index
+    public void addAtIndex(int idx, int val) {
+        if (idx < 0 || idx > size) return;
+        if (idx == 0) {
+            addAtHead(val);
+            return;
+        }
+        if (idx == size) {
+            addAtTail(val);
+            return;
+        }
+        int prev = slotAt(idx - 1);
+        int slot = allocate(val);
+        next[slot] = next[prev];
+        next[prev] = slot;
+        size++;
+    }
+
+    // Delete at index
+    public void deleteAtIndex(int idx) {
+        if (idx < 0 || idx >= size) return;
+        int del;
+        if (idx == 0) {
+            del = head;
+            head = next[head];
+            if (head == NIL) tail = NIL;
+        } else {
+            int prev = slotAt(idx - 1);
+            del = next[prev];
+            next[prev] = next[del];
+            if (next[prev] == NIL) tail = prev;
+        }
+        release(del);
+        size--;
+    }
+
+    // Reverse entire linked list (in place, only next[] is rewritten)
+    public void reverseLL() {
+        int curr = head, prev = NIL;
+        tail = head;
+        while (curr != NIL) {
+            int nxt = next[curr];
+            next[curr] = prev;
+            prev = curr;
+            curr = nxt;
+        }
+        head = prev;
+    }
+
+    // Find middle value (second middle for even sizes, like MyLinkedList.mid)
+    public int mid() {
+        if (head == NIL) return -1;
+        int slow = head, fast = head;
+        while (fast != NIL && next[fast] != NIL) {
+            slow = next[slow];
+            fast = next[next[fast]];
+        }
+        return vals[slow];
+    }
+
+    // Cycle detection (Floyd’s algorithm) over slot indices
+    public boolean hasCycle() {
+        if (head == NIL) return false;
+        int slow = head, fast = next[head];
+        while (slow != fast) {
+            if (fast == NIL || next[fast] == NIL) return false;
+            slow = next[slow];
+            fast = next[next[fast]];
+        }
+        return true;
+    }
+
+    // Remove elements with specific value, freed slots go back to the arena
+    public void removeElements(int value) {
+        int temp = head, prev = NIL;
+        while (temp != NIL) {
+            int nxt = next[temp];
+            if (vals[temp] == value) {
+                if (prev != NIL) {
+                    next[prev] = nxt;
+                } else {
+                    head = nxt;
+                }
+                release(temp);
+                size--;
+            } else {
+                prev = temp;
+            }
+            temp = nxt;
+        }
+        tail = prev;
+    }
+
+    // Print linked list
+    public void printLL() {
+        int temp = head;
+        while (temp != NIL) {
+            System.out.print(vals[temp] + " -> ");
+            temp = next[temp];
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String[] args) {
+        IntArenaLinkedList ll = new IntArenaLinkedList(4);
+        ll.addAtTail(1);
+        ll.addAtTail(2);
+        ll.addAtTail(3);
+        ll.addAtHead(0);
+        ll.addAtIndex(2, 9);
+        ll.printLL();                 // 0 -> 1 -> 9 -> 2 -> 3 -> null
+
+        ll.deleteAtIndex(2);
+        ll.removeElements(0);
+        ll.printLL();                 // 1 -> 2 -> 3 -> null
+
+        ll.reverseLL();
+        ll.printLL();                 // 3 -> 2 -> 1 -> null
+        System.out.println("Middle: " + ll.mid());
+        System.out.println("Has cycle: " + ll.hasCycle());
+        System.out.println("Get(2): " + ll.get(2));
+    }
+}
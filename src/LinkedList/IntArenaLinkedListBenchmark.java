@@ -0,0 +1,93 @@
+package LinkedList;
+
+/*
+ Memory / throughput comparison: MyLinkedList (object nodes) vs IntArenaLinkedList (int[] arena)
+
+ ➤ For each n:
+    - heap(MB) : retained heap after building n elements (used memory after GC, minus baseline)
+    - build    : n x addAtTail
+    - churn    : n x (deleteAtIndex(0) + addAtTail) -> steady state; the arena reuses freed slots
+    - mid      : one slow/fast traversal to the middle element
+
+ ➤ Usage:
+    java LinkedList.IntArenaLinkedListBenchmark [maxExp]   (default 7)
+    Run with -verbose:gc to see the collector going quiet on the arena rows.
+*/
+
+public class IntArenaLinkedListBenchmark {
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int maxExp = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+        for (int i = 0; i < 5; i++) {
+            runNodes(100_000);
+            runArena(100_000);
+        }
+
+        System.out.printf("%-8s %12s %10s %12s %12s %12s%n", "impl", "n", "heap(MB)", "build(ms)", "churn(ms)", "mid(ms)");
+        for (int exp = 3; exp <= maxExp; exp++) {
+            int n = (int) Math.pow(10, exp);
+            print("nodes", n, runNodes(n));
+            print("arena", n, runArena(n));
+        }
+        System.out.println("sink = " + sink);
+    }
+
+    private static void print(String impl, int n, double[] t) {
+        System.out.printf("%-8s %12d %10.1f %12.2f %12.2f %12.2f%n", impl, n, t[0], t[1], t[2], t[3]);
+    }
+
+    private static long usedMemory() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static double[] runNodes(int n) {
+        double[] t = new double[4];
+        long base = usedMemory();
+
+        long start = System.nanoTime();
+        MyLinkedList ll = new MyLinkedList();
+        for (int i = 0; i < n; i++) ll.addAtTail(i);
+        t[1] = (System.nanoTime() - start) / 1e6;
+        t[0] = (usedMemory() - base) / (1024.0 * 1024.0);
+
+        start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            ll.deleteAtIndex(0);
+            ll.addAtTail(i);
+        }
+        t[2] = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        sink += ll.mid(ll.head).val;
+        t[3] = (System.nanoTime() - start) / 1e6;
+        return t;
+    }
+
+    private static double[] runArena(int n) {
+        double[] t = new double[4];
+        long base = usedMemory();
+
+        long start = System.nanoTime();
+        IntArenaLinkedList ll = new IntArenaLinkedList();
+        for (int i = 0; i < n; i++) ll.addAtTail(i);
+        t[1] = (System.nanoTime() - start) / 1e6;
+        t[0] = (usedMemory() - base) / (1024.0 * 1024.0);
+
+        start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            ll.deleteAtIndex(0);
+            ll.addAtTail(i);
+        }
+        t[2] = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        sink += ll.mid();
+        t[3] = (System.nanoTime() - start) / 1e6;
+        return t;
+    }
+}
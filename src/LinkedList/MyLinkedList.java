@@ -17,19 +17,33 @@ public class MyLinkedList {
     }
 
     Node head;
+    Node tail;  // last node, so appends don't walk the chain
+    int size;   // live node count, kept in sync by every mutator
 
     public MyLinkedList() {
         head = null;
+        tail = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Walk to the node at index (0 <= index < size)
+    // Last index is served straight from tail; a singly linked list can't walk backwards,
+    // so every other index still starts from head.
+    private Node nodeAt(int index) {
+        if (index == size - 1) return tail;
+        Node temp = head;
+        for (int i = 0; i < index; i++) temp = temp.next;
+        return temp;
     }
 
     // Get value at specific index
     public int get(int index) {
-        Node temp = head;
-        while (temp != null && index > 0) {
-            temp = temp.next;
-            index--;
-        }
-        return temp != null ? temp.val : -1;
+        if (index < 0 || index >= size) return -1;
+        return nodeAt(index).val;
     }
 
     // Add node at head
@@ -37,46 +51,65 @@ public class MyLinkedList {
         Node node = new Node(val);
         node.next = head;
         head = node;
+        if (tail == null) tail = node;
+        size++;
     }
 
-    // Add node at tail
+    // Add node at tail -> O(1) using the tail pointer
     public void addAtTail(int val) {
         Node node = new Node(val);
         if (head == null) {
-            head = node;
-            return;
+            head = tail = node;
+        } else {
+            tail.next = node;
+            tail = node;
         }
-        Node temp = head;
-        while (temp.next != null) temp = temp.next;
-        temp.next = node;
+        size++;
     }
 
     // Add at a specific index
     public void addAtIndex(int idx, int val) {
-        Node node = new Node(val);
+        if (idx < 0 || idx > size) return;
         if (idx == 0) {
-            node.next = head;
-            head = node;
+            addAtHead(val);
             return;
         }
-        Node temp = head;
-        for (int i = 0; i < idx - 1 && temp != null; i++) temp = temp.next;
-        if (temp == null) return;
+        if (idx == size) {
+            addAtTail(val);
+            return;
+        }
+        Node node = new Node(val);
+        Node temp = nodeAt(idx - 1);
         node.next = temp.next;
         temp.next = node;
+        size++;
     }
 
     // Delete at index
     public void deleteAtIndex(int idx) {
-        if (head == null) return;
+        if (idx < 0 || idx >= size) return;
         if (idx == 0) {
             head = head.next;
+            if (head == null) tail = null;
+            size--;
             return;
         }
-        Node temp = head;
-        for (int i = 0; i < idx - 1 && temp != null; i++) temp = temp.next;
-        if (temp == null || temp.next == null) return;
+        Node temp = nodeAt(idx - 1);
         temp.next = temp.next.next;
+        if (temp.next == null) tail = temp;
+        size--;
+    }
+
+    // Recompute tail and size after a method rewired this list's nodes by value
+    private void resync() {
+        size = 0;
+        tail = null;
+        Node temp = head;
+        while (temp != null) {
+            tail = temp;
+            temp = temp.next;
+            size++;
+        }
     }
 
     // Reverse entire linked list
@@ -88,6 +121,11 @@ public class MyLinkedList {
             prev = curr;
             curr = next;
         }
+        if (head != null && head == this.head) {
+            // reversing our own list: old head is the new tail
+            this.tail = head;
+            this.head = prev;
+        }
         return prev; // new head
     }
 
@@ -102,6 +140,11 @@ public class MyLinkedList {
             temp = temp.next;
         }
 
+        // Make sure right follows left before rewiring anything; otherwise leave the list untouched
+        Node probe = temp.next;
+        while (probe != null && probe.val != right) probe = probe.next;
+        if (probe == null) return dummy.next;
+
         Node prevLeft = temp;
         Node curr = temp.next;
         Node reverseTail = curr;
@@ -114,44 +157,52 @@ public class MyLinkedList {
             curr = next;
         }
 
-        if (curr == null) return dummy.next;
-
         next = curr.next;
         curr.next = prev;
 
         prevLeft.next = curr;
         reverseTail.next = next;
 
+        if (head == this.head) {
+            this.head = dummy.next;
+            resync();
+        }
         return dummy.next;
     }
 
-    // Remove nth node from end
+    // Remove nth node from end -> uses the stored size instead of counting again
     public void removeNthNode(Node head, int n) {
-        int size = 0;
-        Node temp = head;
-        while (temp != null) {
-            temp = temp.next;
-            size++;
-        }
-
-        int index = size - n;
-        Node curr = head;
-        if (index == 0) {
-            this.head = head.next;
+        if (head != this.head) {
+            // foreign chain, no bookkeeping to trust -> same walk as before
+            int size = 0;
+            Node temp = head;
+            while (temp != null) {
+                temp = temp.next;
+                size++;
+            }
+            int index = size - n;
+            Node curr = head;
+            if (index == 0) {
+                this.head = head.next;
+                resync();
+                return;
+            }
+            while (curr != null && index > 1) {
+                curr = curr.next;
+                index--;
+            }
+            if (curr != null && curr.next != null)
+                curr.next = curr.next.next;
             return;
         }
 
-        while (curr != null && index > 1) {
-            curr = curr.next;
-            index--;
-        }
-
-        if (curr != null && curr.next != null)
-            curr.next = curr.next.next;
+        if (n < 1 || n > size) return;
+        deleteAtIndex(size - n);
     }
 
     // Remove elements with specific value
     public Node removeElements(Node head, int value) {
+        boolean own = head == this.head;
         Node temp = head, prev = null;
         while (temp != null) {
             if (temp.val == value) {
@@ -168,6 +219,11 @@ public class MyLinkedList {
                 temp = temp.next;
             }
         }
+        if (own) {
+            // removals may have dropped our head or tail
+            this.head = head;
+            resync();
+        }
         return head;
     }
 
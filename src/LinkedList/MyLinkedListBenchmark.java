@@ -0,0 +1,59 @@
+package LinkedList;
+
+/*
+ Scaling benchmark for MyLinkedList (plain System.nanoTime harness, no JMH in this project)
+
+ ➤ What it measures for n = 10^3 .. 10^maxExp:
+    - build : n x addAtTail          -> should grow linearly now that tail is kept
+    - tail  : 1000 x get(size - 1)   -> O(1) each, served from the tail pointer
+    - mid   : 10 x get(size / 2)     -> still O(n) each (singly linked, walks from head)
+    - nth   : 10 x removeNthNode(1)  -> one walk to the predecessor instead of count + walk
+
+ ➤ Usage:
+    java LinkedList.MyLinkedListBenchmark [maxExp]   (default 7 -> up to 10^7 nodes)
+*/
+
+public class MyLinkedListBenchmark {
+
+    static long sink; // keeps the JIT from discarding results
+
+    public static void main(String[] args) {
+        int maxExp = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+        // warm-up so the first row isn't dominated by interpretation
+        for (int i = 0; i < 5; i++) run(100_000);
+
+        System.out.printf("%12s %12s %12s %12s %12s%n", "n", "build(ms)", "tail(us)", "mid(ms)", "nth(us)");
+        for (int exp = 3; exp <= maxExp; exp++) {
+            int n = (int) Math.pow(10, exp);
+            long[] t = run(n);
+            System.out.printf("%12d %12.2f %12.2f %12.2f %12.2f%n",
+                    n, t[0] / 1e6, t[1] / 1e3, t[2] / 1e6, t[3] / 1e3);
+        }
+        System.out.println("sink = " + sink);
+    }
+
+    private static long[] run(int n) {
+        long[] t = new long[4];
+
+        long start = System.nanoTime();
+        MyLinkedList ll = new MyLinkedList();
+        for (int i = 0; i < n; i++) ll.addAtTail(i);
+        t[0] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) sink += ll.get(ll.size() - 1);
+        t[1] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < 10; i++) sink += ll.get(ll.size() / 2);
+        t[2] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < 10; i++) ll.removeNthNode(ll.head, 1);
+        t[3] = System.nanoTime() - start;
+
+        sink += ll.size();
+        return t;
+    }
+}
@@ -0,0 +1,238 @@
+package LinkedList;
+
+/*
+ Unrolled Doubly Linked List
+
+ ➤ Motivation:
+    - DLL keeps one int per Node with prev + next pointers, so a traversal is one cache miss per value.
+    - An unrolled list keeps a small int[] block in every node -> a traversal touches
+      one node per BLOCK values and walks each block as a plain array.
+
+ ➤ Layout:
+    head <-> [v v v v . . . .] <-> [v v v . . . . .] <-> ... <-> tail
+    - every block holds between 1 and BLOCK values (count)
+    - after a removal a block that drops below BLOCK / 2 is merged with its successor when they fit
+
+ ➤ Operations:
+    - get / insert / remove at any index : O(n / BLOCK + BLOCK)
+    - insertAtEnd                       : O(1) amortized (tail block)
+    - split : a full block being inserted into is cut into two half-full blocks
+    - merge : see above, keeps blocks dense so scans stay cache friendly
+    - sorted duplicate removal runs block by block with a read cursor and a write cursor,
+      then drops the blocks left empty behind the write cursor
+
+ ➤ Time Complexity of removeDuplicate / removeDuplicatesFromSorted: O(n), Space: O(1)
+*/
+
+public class UnrolledDLL {
+
+    static final int BLOCK = 64;
+
+    class Node {
+        Node next;
+        Node prev;
+        int[] vals = new int[BLOCK];
+        int count;
+    }
+
+    Node head;
+    Node tail;
+    int size;
+
+    public UnrolledDLL() {
+        head = null;
+        tail = null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) return -1;
+        Node temp = head;
+        while (index >= temp.count) {
+            index -= temp.count;
+            temp = temp.next;
+        }
+        return temp.vals[index];
+    }
+
+    public void insertAtEnd(int val) {
+        if (tail == null || tail.count == BLOCK) {
+            linkAfter(tail, new Node());
+        }
+        tail.vals[tail.count++] = val;
+        size++;
+    }
+
+    public void add(int val) {
+        insert(0, val);
+    }
+
+    // Insert val so that it ends up at position index
+    public void insert(int index, int val) {
+        if (index < 0 || index > size) return;
+        if (index == size) {
+            insertAtEnd(val);
+            return;
+        }
+        Node temp = head;
+        while (index > temp.count || (index == temp.count && temp.next != null)) {
+            index -= temp.count;
+            temp = temp.next;
+        }
+        if (temp.count == BLOCK) {
+            // split: move the upper half into a fresh block after temp
+            Node right = new Node();
+            int half = BLOCK / 2;
+            System.arraycopy(temp.vals, half, right.vals, 0, BLOCK - half);
+            right.count = BLOCK - half;
+            temp.count = half;
+            linkAfter(temp, right);
+            if (index > half) {
+                temp = right;
+                index -= half;
+            }
+        }
+        System.arraycopy(temp.vals, index, temp.vals, index + 1, temp.count - index);
+        temp.vals[index] = val;
+        temp.count++;
+        size++;
+    }
+
+    public void remove(int index) {
+        if (index < 0 || index >= size) return;
+        Node temp = head;
+        while (index >= temp.count) {
+            index -= temp.count;
+            temp = temp.next;
+        }
+        System.arraycopy(temp.vals, index + 1, temp.vals, index, temp.count - index - 1);
+        temp.count--;
+        size--;
+
+        if (temp.count == 0) {
+            unlink(temp);
+        } else if (temp.count < BLOCK / 2 && temp.next != null && temp.count + temp.next.count <= BLOCK) {
+            // merge the successor into this block
+            Node nxt = temp.next;
+            System.arraycopy(nxt.vals, 0, temp.vals, temp.count, nxt.count);
+            temp.count += nxt.count;
+            unlink(nxt);
+        }
+    }
+
+    // Keep one copy of every value (same result as DLL.removeDuplicate)
+    public void removeDuplicate() {
+        compact(false);
+    }
+
+    // Drop every value that occurs more than once (same result as DLL.removeDuplicatesFromSortedDoublyLinkedList)
+    public void removeDuplicatesFromSorted() {
+        compact(true);
+    }
+
+    /*
+     Single pass over the blocks:
+       - (rn, ri) reads, (wn, wi) writes; since the write cursor never passes the read cursor
+         values can be moved in place.
+       - a run of equal values is found, then either one copy is written (dropAll == false)
+         or, when the run is longer than 1, nothing is written (dropAll == true).
+    */
+    private void compact(boolean dropAll) {
+        if (head == null) return;
+        Node rn = head, wn = head;
+        int ri = 0, wi = 0;
+        int written = 0;
+
+        while (rn != null) {
+            int val = rn.vals[ri];
+            int run = 0;
+            // consume the whole run, possibly across blocks
+            while (rn != null && rn.vals[ri] == val) {
+                run++;
+                if (++ri == rn.count) {
+                    rn = rn.next;
+                    ri = 0;
+                }
+            }
+            if (dropAll && run > 1) continue;
+
+            if (wi == BLOCK) {
+                wn.count = BLOCK;
+                wn = wn.next;
+                wi = 0;
+            }
+            wn.vals[wi++] = val;
+            written++;
+        }
+
+        // cut the chain after the last written block
+        wn.count = wi;
+        Node rest = wn.next;
+        wn.next = null;
+        tail = wn;
+        if (rest != null) rest.prev = null;
+        size = written;
+        if (wi == 0) unlink(wn);
+    }
+
+    private void linkAfter(Node at, Node node) {
+        node.prev = at;
+        if (at == null) {
+            node.next = head;
+            if (head != null) head.prev = node;
+            head = node;
+        } else {
+            node.next = at.next;
+            if (at.next != null) at.next.prev = node;
+            at.next = node;
+        }
+        if (node.next == null) tail = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) node.prev.next = node.next;
+        else head = node.next;
+        if (node.next != null) node.next.prev = node.prev;
+        else tail = node.prev;
+    }
+
+    public void printLL() {
+        Node temp = head;
+        while (temp != null) {
+            System.out.print("[");
+            for (int i = 0; i < temp.count; i++) {
+                System.out.print(i == 0 ? "" + temp.vals[i] : " " + temp.vals[i]);
+            }
+            System.out.print("] <-> ");
+            temp = temp.next;
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String[] args) {
+        UnrolledDLL ll = new UnrolledDLL();
+
+        ll.insertAtEnd(1);
+        ll.insertAtEnd(2);
+        ll.insertAtEnd(3);
+        ll.insertAtEnd(3);
+        ll.insertAtEnd(3);
+        ll.insertAtEnd(4);
+        ll.insertAtEnd(4);
+        ll.insert(1, 1);
+        ll.printLL();                      // [1 1 2 3 3 3 4 4]
+
+        ll.removeDuplicate();
+        ll.printLL();                      // [1 2 3 4]
+
+        ll.insert(2, 2);
+        ll.removeDuplicatesFromSorted();
+        ll.printLL();                      // [1 3 4]
+
+        ll.remove(1);
+        System.out.println(ll.get(1));     // 4
+    }
+}
@@ -0,0 +1,101 @@
+package LinkedList;
+
+/*
+ UnrolledDLL vs DLL
+
+ ➤ For each n (sorted input, every value repeated twice):
+    - scan   : sum of all values, walking next pointers
+    - insert : inserts at the middle index (walk + link), reported per insert in microseconds.
+               UnrolledDLL does 1000 of them; DLL walks n/2 nodes per insert, so it does
+               1000 * 10^6 / n (1000 at 10^6, 10 at 10^8) to keep every row in seconds.
+    - dedup  : DLL.removeDuplicate vs UnrolledDLL.removeDuplicate
+
+ ➤ DLL.insertAtEnd walks the whole list, so the DLL is built by prepending in reverse order (DLL.add);
+   UnrolledDLL.insertAtEnd is O(1) through its tail block. Build time is not measured.
+
+ ➤ Usage:
+    java -Xmx16g LinkedList.UnrolledDLLBenchmark [maxExp]   (default 8 -> up to 10^8 values)
+    10^8 object nodes need several GB of heap; lower maxExp on small machines.
+*/
+
+public class UnrolledDLLBenchmark {
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int maxExp = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+
+        for (int i = 0; i < 3; i++) {
+            runDLL(100_000);
+            runUnrolled(100_000);
+        }
+
+        System.out.printf("%-9s %12s %12s %12s %12s%n", "impl", "n", "scan(ms)", "insert(us/op)", "dedup(ms)");
+        for (int exp = 6; exp <= maxExp; exp++) {
+            int n = (int) Math.pow(10, exp);
+            print("dll", n, runDLL(n));
+            print("unrolled", n, runUnrolled(n));
+        }
+        System.out.println("sink = " + sink);
+    }
+
+    private static void print(String impl, int n, double[] t) {
+        System.out.printf("%-9s %12d %12.2f %12.2f %12.2f%n", impl, n, t[0], t[1], t[2]);
+    }
+
+    private static int dllInserts(int n) {
+        return (int) Math.max(10, Math.min(1000, 1_000_000_000L / n));
+    }
+
+    private static double[] runDLL(int n) {
+        double[] t = new double[3];
+        DLL ll = new DLL();
+        for (int i = n - 1; i >= 0; i--) ll.add(i / 2);
+
+        long start = System.nanoTime();
+        long sum = 0;
+        for (DLL.Node temp = ll.head; temp != null; temp = temp.next) sum += temp.val;
+        sink += sum;
+        t[0] = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        int inserts = dllInserts(n);
+        for (int k = 0; k < inserts; k++) {
+            DLL.Node temp = ll.head;
+            for (int i = 0; i < n / 2; i++) temp = temp.next;
+            ll.insertAfter(temp, temp.val);
+        }
+        t[1] = (System.nanoTime() - start) / 1e3 / inserts;
+
+        start = System.nanoTime();
+        ll.removeDuplicate(ll.head);
+        t[2] = (System.nanoTime() - start) / 1e6;
+        return t;
+    }
+
+    private static double[] runUnrolled(int n) {
+        double[] t = new double[3];
+        UnrolledDLL ll = new UnrolledDLL();
+        for (int i = 0; i < n; i++) ll.insertAtEnd(i / 2);
+
+        long start = System.nanoTime();
+        long sum = 0;
+        for (UnrolledDLL.Node temp = ll.head; temp != null; temp = temp.next) {
+            for (int i = 0; i < temp.count; i++) sum += temp.vals[i];
+        }
+        sink += sum;
+        t[0] = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        for (int k = 0; k < 1000; k++) {
+            int mid = ll.size() / 2;
+            ll.insert(mid, ll.get(mid));
+        }
+        t[1] = (System.nanoTime() - start) / 1e3 / 1000;
+
+        start = System.nanoTime();
+        ll.removeDuplicate();
+        t[2] = (System.nanoTime() - start) / 1e6;
+        return t;
+    }
+}
@@ -0,0 +1,121 @@
+package Queue;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/*
+ Lock-free multi-producer / multi-consumer queue (Michael–Scott queue)
+
+ ➤ Same int-node design as QueueUsingLL, but safe to call from many threads at once.
+
+ ➤ Idea:
+    - head always points at a dummy node; the real front element is head.next.
+    - enqueue: CAS the new node onto tail.next, then try to swing tail forward.
+    - dequeue: CAS head forward to head.next and return its data.
+    - If a thread sees tail lagging behind (tail.next != null) it helps by advancing tail
+      before retrying -> no thread ever waits for another one to finish (lock-free).
+
+ ➤ Time Complexity: O(1) per operation (amortized over CAS retries)
+ ➤ Space: one node per element, the dummy node is recycled as the new head on every dequeue
+
+ ➤ dequeue()/peek() return EMPTY when there is nothing to take; EMPTY itself (Integer.MIN_VALUE)
+   can therefore never be enqueued.
+*/
+
+public class ConcurrentQueueUsingLL {
+
+    public static final int EMPTY = Integer.MIN_VALUE;
+
+    static final class Node {
+        final int data;
+        volatile Node next;
+
+        Node(int data) {
+            this.data = data;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    private static final AtomicReferenceFieldUpdater<ConcurrentQueueUsingLL, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentQueueUsingLL.class, Node.class, "head");
+    private static final AtomicReferenceFieldUpdater<ConcurrentQueueUsingLL, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentQueueUsingLL.class, Node.class, "tail");
+
+    private volatile Node head;
+    private volatile Node tail;
+
+    public ConcurrentQueueUsingLL() {
+        Node dummy = new Node(0);
+        head = tail = dummy;
+    }
+
+    public void enqueue(int data) {
+        if (data == EMPTY) throw new IllegalArgumentException("EMPTY (Integer.MIN_VALUE) is reserved");
+        Node nn = new Node(data);
+        while (true) {
+            Node last = tail;
+            Node next = last.next;
+            if (last != tail) continue; // tail moved under us, re-read
+
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, nn)) {
+                    TAIL.compareAndSet(this, last, nn); // failing is fine, someone helped
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next); // help a lagging enqueue
+            }
+        }
+    }
+
+    public int dequeue() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = first.next;
+            if (first != head) continue;
+
+            if (next == null) {
+                return EMPTY;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next); // tail is behind, help before moving head past it
+                continue;
+            }
+            if (HEAD.compareAndSet(this, first, next)) {
+                return next.data; // next becomes the new dummy
+            }
+        }
+    }
+
+    public int peek() {
+        Node next = head.next;
+        return next == null ? EMPTY : next.data;
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentQueueUsingLL queue = new ConcurrentQueueUsingLL();
+
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            int base = p * 1000;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) queue.enqueue(base + i);
+            });
+            producers[p].start();
+        }
+        for (Thread t : producers) t.join();
+
+        long sum = 0;
+        int count = 0;
+        for (int v = queue.dequeue(); v != EMPTY; v = queue.dequeue()) {
+            sum += v;
+            count++;
+        }
+        System.out.println(count + " elements, sum = " + sum); // 4000 elements, sum = 7998000
+    }
+}
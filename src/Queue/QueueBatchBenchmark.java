@@ -0,0 +1,58 @@
+package Queue;
+
+/*
+ Single-element vs batched QueueUsingLL
+
+ ➤ Pushes TOTAL values through the queue in rounds of `batch` values:
+    - single  : batch x enqueue, then batch x dequeue
+    - batched : one enqueueAll, then one drainTo
+    for batch = 64, 256, 1024, 4096.
+
+ ➤ Usage:
+    java Queue.QueueBatchBenchmark [total]   (default 50_000_000)
+*/
+
+public class QueueBatchBenchmark {
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : 50_000_000;
+
+        for (int i = 0; i < 3; i++) {
+            single(1_000_000, 256);
+            batched(1_000_000, 256);
+        }
+
+        System.out.printf("%8s %16s %16s%n", "batch", "single(Mops/s)", "batched(Mops/s)");
+        for (int batch = 64; batch <= 4096; batch *= 4) {
+            System.out.printf("%8d %16.1f %16.1f%n", batch, single(total, batch), batched(total, batch));
+        }
+        System.out.println("sink = " + sink);
+    }
+
+    private static double single(int total, int batch) {
+        QueueUsingLL queue = new QueueUsingLL();
+        long start = System.nanoTime();
+        for (int done = 0; done < total; done += batch) {
+            for (int i = 0; i < batch; i++) queue.enqueue(i);
+            for (int i = 0; i < batch; i++) sink += queue.dequeue();
+        }
+        return total / ((System.nanoTime() - start) / 1e3);
+    }
+
+    private static double batched(int total, int batch) {
+        QueueUsingLL queue = new QueueUsingLL();
+        int[] src = new int[batch];
+        int[] dst = new int[batch];
+        for (int i = 0; i < batch; i++) src[i] = i;
+
+        long start = System.nanoTime();
+        for (int done = 0; done < total; done += batch) {
+            queue.enqueueAll(src, 0, batch);
+            int n = queue.drainTo(dst, batch);
+            sink += dst[n - 1];
+        }
+        return total / ((System.nanoTime() - start) / 1e3);
+    }
+}
@@ -0,0 +1,166 @@
+package Queue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ Throughput harness for the concurrent queues (plain threads + System.nanoTime, no JMH in this project)
+
+ ➤ For pairs = 1, 2, 4, 8, 16:
+    - ms-queue : `pairs` producers and `pairs` consumers on one ConcurrentQueueUsingLL
+    - ring     : `pairs` producers feeding one consumer through a RingQueue (MPSC)
+    Producer p pushes the distinct payloads p * OPS .. p * OPS + OPS - 1, so the run moves 0 .. pairs * OPS - 1
+    exactly once. Consumers take whatever they get and stop on a shared remaining-count, which they
+    decrement in batches of FLUSH_EVERY (and whenever the queue looks empty) to keep it off the hot path.
+    At the end the per-consumer counts and payload sums are added up and compared with pairs * OPS and
+    the closed-form sum -> a lost, duplicated or corrupted element fails the run.
+    ops/sec counts one enqueue + one dequeue as a single op.
+
+ ➤ Usage:
+    java Queue.QueueThroughputBenchmark [opsPerProducer]   (default 2_000_000)
+*/
+
+public class QueueThroughputBenchmark {
+
+    private static final int FLUSH_EVERY = 1024;
+
+    public static void main(String[] args) throws InterruptedException {
+        int ops = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        if (ops < 1 || 16L * ops > Integer.MAX_VALUE) throw new IllegalArgumentException("payloads must fit an int: " + ops);
+
+        // warm-up
+        msQueue(2, ops / 10);
+        ring(2, ops / 10);
+
+        System.out.printf("%6s %16s %16s%n", "pairs", "ms-queue(op/s)", "ring(op/s)");
+        for (int pairs = 1; pairs <= 16; pairs *= 2) {
+            System.out.printf("%6d %16.0f %16.0f%n", pairs, msQueue(pairs, ops), ring(pairs, ops));
+        }
+    }
+
+    private static double msQueue(int pairs, int ops) throws InterruptedException {
+        ConcurrentQueueUsingLL queue = new ConcurrentQueueUsingLL();
+        long total = (long) pairs * ops;
+        AtomicLong remaining = new AtomicLong(total);
+        AtomicInteger producersLeft = new AtomicInteger(pairs);
+        long[] counts = new long[pairs], sums = new long[pairs];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[pairs * 2];
+
+        for (int p = 0; p < pairs; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                await(start);
+                int base = id * ops;
+                for (int i = 0; i < ops; i++) queue.enqueue(base + i);
+                producersLeft.decrementAndGet();
+            });
+            threads[pairs + p] = new Thread(() -> {
+                await(start);
+                long mine = 0, sum = 0, unflushed = 0;
+                while (remaining.get() > 0) {
+                    int v = queue.dequeue();
+                    if (v != ConcurrentQueueUsingLL.EMPTY) {
+                        mine++;
+                        sum += v;
+                        if (++unflushed == FLUSH_EVERY) {
+                            remaining.addAndGet(-unflushed);
+                            unflushed = 0;
+                        }
+                    } else if (unflushed > 0) {
+                        remaining.addAndGet(-unflushed); // publish before idling so others can see the end
+                        unflushed = 0;
+                    } else if (producersLeft.get() == 0 && queue.isEmpty()) {
+                        break; // nothing more can arrive -> a lost element shows up in check, not as a hang
+                    }
+                }
+                remaining.addAndGet(-unflushed);
+                counts[id] = mine;
+                sums[id] = sum;
+            });
+        }
+        double rate = time(threads, start, total);
+        check(counts, sums, remaining, total);
+        return rate;
+    }
+
+    private static double ring(int pairs, int ops) throws InterruptedException {
+        RingQueue queue = new RingQueue(1 << 16);
+        long total = (long) pairs * ops;
+        AtomicLong remaining = new AtomicLong(total);
+        AtomicInteger producersLeft = new AtomicInteger(pairs);
+        long[] counts = new long[1], sums = new long[1];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[pairs + 1];
+
+        for (int p = 0; p < pairs; p++) {
+            int base = p * ops;
+            threads[p] = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ops; i++) {
+                    while (!queue.offer(base + i)) Thread.onSpinWait();
+                }
+                producersLeft.decrementAndGet();
+            });
+        }
+        threads[pairs] = new Thread(() -> {
+            await(start);
+            long mine = 0, sum = 0, unflushed = 0;
+            while (remaining.get() > 0) {
+                int v = queue.poll();
+                if (v != RingQueue.EMPTY) {
+                    mine++;
+                    sum += v;
+                    if (++unflushed == FLUSH_EVERY) {
+                        remaining.addAndGet(-unflushed);
+                        unflushed = 0;
+                    }
+                } else if (unflushed > 0) {
+                    remaining.addAndGet(-unflushed);
+                    unflushed = 0;
+                } else if (producersLeft.get() == 0 && queue.isEmpty()) {
+                    break;
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+            remaining.addAndGet(-unflushed);
+            counts[0] = mine;
+            sums[0] = sum;
+        });
+        double rate = time(threads, start, total);
+        check(counts, sums, remaining, total);
+        return rate;
+    }
+
+    private static double time(Thread[] threads, CountDownLatch start, long total) throws InterruptedException {
+        for (Thread t : threads) t.start();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread t : threads) t.join();
+        return total / ((System.nanoTime() - begin) / 1e9);
+    }
+
+    // payloads are 0 .. total-1, each exactly once -> count, sum and the shared countdown must all line up
+    private static void check(long[] counts, long[] sums, AtomicLong remaining, long total) {
+        long count = 0, sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            sum += sums[i];
+        }
+        long expectedSum = total * (total - 1) / 2;
+        if (count != total || sum != expectedSum || remaining.get() != 0) {
+            throw new IllegalStateException("consumed " + count + " of " + total + ", sum " + sum + " (expected "
+                    + expectedSum + "), remaining " + remaining.get());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
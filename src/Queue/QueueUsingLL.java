@@ -1,5 +1,7 @@
 package Queue;
 
+import java.util.Arrays;
+
 
 public class QueueUsingLL {
 
@@ -31,10 +33,16 @@ public class QueueUsingLL {
         System.out.println(queue.peek());
         queue.display();
 
+        queue.enqueueAll(new int[]{50, 60, 70, 80}, 1, 3);
+        int[] batch = new int[4];
+        int n = queue.drainTo(batch, 4);
+        System.out.println(n + " drained: " + Arrays.toString(batch));
+        queue.display();
+
 
     }
 
-    private int dequeue() {
+    public int dequeue() {
         if (this.head == null) {
             System.out.println("queue is already empty");
             return -1;
@@ -42,10 +50,13 @@ public class QueueUsingLL {
         int remove = this.head.data;
 
         this.head = this.head.next;
+        if (this.head == null) {
+            this.tail = null; // queue is empty again, don't let the next enqueue link onto a stale node
+        }
         return remove;
     }
 
-    private void enqueue(int data) {
+    public void enqueue(int data) {
         Node nn = new Node(data);
 
         if (this.tail == null) {
@@ -58,11 +69,48 @@ public class QueueUsingLL {
         this.tail = nn;
     }
 
-    private int peek() {
+    // Batch enqueue: build the run src[off .. off+len) as a private chain first,
+    // then hook it onto the queue with a single tail update
+    public void enqueueAll(int[] src, int off, int len) {
+        if (len <= 0) return;
+        Node first = new Node(src[off]);
+        Node last = first;
+        for (int i = off + 1; i < off + len; i++) {
+            last.next = new Node(src[i]);
+            last = last.next;
+        }
+
+        if (this.tail == null) {
+            this.head = first;
+        } else {
+            this.tail.next = first;
+        }
+        this.tail = last;
+    }
+
+    // Batch dequeue: copy up to max values into dst, then detach the whole run
+    // with a single head update. Returns how many values were drained.
+    public int drainTo(int[] dst, int max) {
+        int limit = Math.min(max, dst.length);
+        int count = 0;
+        Node temp = this.head;
+        while (temp != null && count < limit) {
+            dst[count++] = temp.data;
+            temp = temp.next;
+        }
+
+        this.head = temp;
+        if (temp == null) {
+            this.tail = null;
+        }
+        return count;
+    }
+
+    public int peek() {
         return head.data;
     }
 
-    private boolean isEmpty() {
+    public boolean isEmpty() {
         return head == null;
     }
 
@@ -0,0 +1,99 @@
+package Queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ Bounded array-backed ring queue of ints: many producers, one consumer (MPSC, also fine as SPSC)
+
+ ➤ Why:
+    - No node per element: values live in a fixed int[] buffer, nothing is allocated after construction.
+    - Capacity is rounded up to a power of two so "index % capacity" becomes "index & mask".
+
+ ➤ Idea (per-slot sequence numbers):
+    - Every slot i carries a sequence number, initially i.
+    - Producer with ticket t may write slot (t & mask) only when seq == t; it claims the ticket by
+      CAS-ing tail from t to t+1, writes the value, then publishes seq = t + 1.
+    - The consumer at position h may read slot (h & mask) only when seq == h + 1; after reading it
+      frees the slot for the next lap with seq = h + capacity.
+    - Only producers contend (on tail); the consumer owns head and needs no CAS at all.
+
+ ➤ offer() returns false when full, poll() returns EMPTY when empty; EMPTY itself
+   (Integer.MIN_VALUE) is rejected by offer().
+ ➤ poll()/peek() must only ever be called from one thread.
+*/
+
+public class RingQueue {
+
+    public static final int EMPTY = Integer.MIN_VALUE;
+
+    private final int[] buffer;
+    private final AtomicLongArray sequence;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // consumer-owned
+
+    public RingQueue(int capacity) {
+        int cap = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new int[cap];
+        sequence = new AtomicLongArray(cap);
+        for (int i = 0; i < cap; i++) sequence.set(i, i);
+        mask = cap - 1;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public boolean offer(int data) {
+        if (data == EMPTY) throw new IllegalArgumentException("EMPTY (Integer.MIN_VALUE) is reserved");
+        while (true) {
+            long t = tail.get();
+            int idx = (int) (t & mask);
+            long diff = sequence.get(idx) - t;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    buffer[idx] = data;
+                    sequence.lazySet(idx, t + 1); // publish to the consumer
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // slot still holds last lap's value -> full
+            }
+            // diff > 0: another producer took this ticket, retry with a fresh tail
+        }
+    }
+
+    public int poll() {
+        int idx = (int) (head & mask);
+        if (sequence.get(idx) != head + 1) return EMPTY;
+        int data = buffer[idx];
+        sequence.lazySet(idx, head + buffer.length); // hand the slot back to producers
+        head++;
+        return data;
+    }
+
+    public int peek() {
+        int idx = (int) (head & mask);
+        return sequence.get(idx) != head + 1 ? EMPTY : buffer[idx];
+    }
+
+    public boolean isEmpty() {
+        return sequence.get((int) (head & mask)) != head + 1;
+    }
+
+    public static void main(String[] args) {
+        RingQueue queue = new RingQueue(4);
+
+        for (int i = 1; i <= 5; i++) {
+            System.out.println("offer " + i * 10 + " -> " + queue.offer(i * 10)); // last one fails, full
+        }
+        System.out.println(queue.poll()); // 10
+        System.out.println(queue.peek()); // 20
+        System.out.println(queue.offer(50)); // true, slot was freed
+        while (!queue.isEmpty()) System.out.print(queue.poll() + " ");
+        System.out.println();
+    }
+}
@@ -0,0 +1,161 @@
+package Queue;
+
+import java.util.Arrays;
+
+/*
+ Sliding window median over the last k samples (LeetCode 480, streaming)
+
+ ➤ Dual heaps:
+    - low  : max-heap with the smaller half of the window
+    - high : min-heap with the larger half
+    - low.size == high.size or low.size == high.size + 1
+    - median = top of low (odd k) or the mean of both tops (even k)
+
+ ➤ Removing the sample that leaves the window:
+    - The usual trick is lazy deletion with a HashMap of pending removals -> boxing + allocation.
+    - Here every sample lives in slot (seq % k) of a fixed ring, both heaps store slot numbers,
+      and pos[slot] remembers where the slot sits inside its heap.
+      -> the expiring slot is removed directly in O(log k), nothing is allocated after construction.
+
+ ➤ Time: O(log k) per sample, Space: O(k)
+*/
+
+public class SlidingMedian {
+
+    private final int k;
+    private final int[] vals;    // value held by each slot
+    private final int[] pos;     // index of the slot inside its heap
+    private final boolean[] inLow;
+    private final SlotHeap low;  // max-heap
+    private final SlotHeap high; // min-heap
+    private long seq;
+
+    public SlidingMedian(int k) {
+        if (k <= 0) throw new IllegalArgumentException("window must be positive: " + k);
+        this.k = k;
+        vals = new int[k];
+        pos = new int[k];
+        inLow = new boolean[k];
+        low = new SlotHeap(true);
+        high = new SlotHeap(false);
+    }
+
+    // Add the next sample, return the median of the last min(k, seen) samples
+    public double push(int value) {
+        int slot = (int) (seq % k);
+        if (seq >= k) {
+            if (inLow[slot]) low.remove(pos[slot]);
+            else high.remove(pos[slot]);
+        }
+        seq++;
+
+        vals[slot] = value;
+        if (low.size == 0 || value <= vals[low.heap[0]]) {
+            inLow[slot] = true;
+            low.add(slot);
+        } else {
+            inLow[slot] = false;
+            high.add(slot);
+        }
+
+        // rebalance so that low holds the extra element
+        if (low.size > high.size + 1) {
+            int moved = low.poll();
+            inLow[moved] = false;
+            high.add(moved);
+        } else if (high.size > low.size) {
+            int moved = high.poll();
+            inLow[moved] = true;
+            low.add(moved);
+        }
+        return median();
+    }
+
+    public double median() {
+        if (low.size > high.size) return vals[low.heap[0]];
+        return ((long) vals[low.heap[0]] + vals[high.heap[0]]) / 2.0;
+    }
+
+    public boolean isFull() {
+        return seq >= k;
+    }
+
+    // Binary heap of slot numbers ordered by vals[slot]; keeps pos[] up to date on every move
+    private final class SlotHeap {
+        final int[] heap;
+        final boolean maxHeap;
+        int size;
+
+        SlotHeap(boolean maxHeap) {
+            this.maxHeap = maxHeap;
+            this.heap = new int[k];
+        }
+
+        boolean before(int a, int b) {
+            return maxHeap ? vals[a] > vals[b] : vals[a] < vals[b];
+        }
+
+        void add(int slot) {
+            heap[size] = slot;
+            pos[slot] = size;
+            siftUp(size++);
+        }
+
+        int poll() {
+            int top = heap[0];
+            remove(0);
+            return top;
+        }
+
+        void remove(int i) {
+            size--;
+            if (i == size) return;
+            set(i, heap[size]);
+            siftDown(i);
+            siftUp(i);
+        }
+
+        void siftUp(int i) {
+            int slot = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(slot, heap[parent])) break;
+                set(i, heap[parent]);
+                i = parent;
+            }
+            set(i, slot);
+        }
+
+        void siftDown(int i) {
+            int slot = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+                if (!before(heap[child], slot)) break;
+                set(i, heap[child]);
+                i = child;
+            }
+            set(i, slot);
+        }
+
+        void set(int i, int slot) {
+            heap[i] = slot;
+            pos[slot] = i;
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] nums = {1, 3, -1, -3, 5, 3, 6, 7};
+        int k = 3;
+
+        SlidingMedian median = new SlidingMedian(k);
+        double[] ans = new double[nums.length - k + 1];
+        int idx = 0;
+        for (int v : nums) {
+            double m = median.push(v);
+            if (median.isFull()) ans[idx++] = m;
+        }
+        System.out.println(Arrays.toString(ans)); // [1.0, -1.0, -1.0, 3.0, 5.0, 6.0]
+    }
+}
@@ -0,0 +1,150 @@
+package Queue;
+
+import java.util.Arrays;
+
+/*
+ Streaming sliding-window max / min
+
+ ➤ Monotonic deque, but on a primitive ring buffer instead of ArrayDeque<Integer>:
+    - keys[] : position of each entry in the stream (sequence number or timestamp)
+    - vals[] : the value pushed at that position
+    - For MAX the values in the deque are kept decreasing from front to back, for MIN increasing.
+      The front is always the answer for the current window.
+
+ ➤ Two kinds of windows, same expiry rule (front leaves once key <= newestKey - window):
+    - count-based : countWindow(k)        -> key = sequence number, push(value)
+    - time-based  : timeWindow(duration)  -> key = caller's timestamp, push(timestamp, value)
+
+ ➤ Cost per sample: amortized O(1), every value enters and leaves the deque once.
+ ➤ Allocation: a count window never holds more than k entries, so the ring is sized once.
+   A time window grows its ring (doubling) until it fits the busiest window, then stops allocating.
+*/
+
+public class SlidingWindowAggregator {
+
+    public enum Mode { MAX, MIN }
+
+    private final Mode mode;
+    private final long window;
+    private final boolean timeBased;
+
+    private long[] keys;
+    private int[] vals;
+    private int mask;
+    private int head;  // index of the front entry
+    private int size;
+
+    private long seq;  // samples pushed so far (count-based key)
+
+    private SlidingWindowAggregator(Mode mode, long window, boolean timeBased, int capacity) {
+        if (window <= 0) throw new IllegalArgumentException("window must be positive: " + window);
+        this.mode = mode;
+        this.window = window;
+        this.timeBased = timeBased;
+        int cap = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        keys = new long[cap];
+        vals = new int[cap];
+        mask = cap - 1;
+    }
+
+    // Window of the last k samples
+    public static SlidingWindowAggregator countWindow(int k, Mode mode) {
+        return new SlidingWindowAggregator(mode, k, false, k);
+    }
+
+    // Window of samples with timestamp in (newest - duration, newest]
+    public static SlidingWindowAggregator timeWindow(long duration, Mode mode) {
+        return new SlidingWindowAggregator(mode, duration, true, 64);
+    }
+
+    // Count-based: add the next sample, return the max/min of the last k samples
+    public int push(int value) {
+        if (timeBased) throw new IllegalStateException("time window: use push(timestamp, value)");
+        return add(seq++, value);
+    }
+
+    // Time-based: timestamps must be non-decreasing
+    public int push(long timestamp, int value) {
+        if (!timeBased) throw new IllegalStateException("count window: use push(value)");
+        if (size > 0 && timestamp < keys[(head + size - 1) & mask]) {
+            throw new IllegalArgumentException("timestamp went backwards: " + timestamp);
+        }
+        seq++;
+        return add(timestamp, value);
+    }
+
+    private int add(long key, int value) {
+        // expire from the front
+        long oldest = key - window;
+        while (size > 0 && keys[head] <= oldest) {
+            head = (head + 1) & mask;
+            size--;
+        }
+
+        // drop entries from the back that can never be the answer again
+        while (size > 0 && dominates(value, vals[(head + size - 1) & mask])) {
+            size--;
+        }
+
+        if (size == keys.length) grow();
+        int back = (head + size) & mask;
+        keys[back] = key;
+        vals[back] = value;
+        size++;
+        return vals[head];
+    }
+
+    private boolean dominates(int incoming, int existing) {
+        return mode == Mode.MAX ? incoming >= existing : incoming <= existing;
+    }
+
+    private void grow() {
+        int cap = keys.length * 2;
+        long[] newKeys = new long[cap];
+        int[] newVals = new int[cap];
+        for (int i = 0; i < size; i++) {
+            newKeys[i] = keys[(head + i) & mask];
+            newVals[i] = vals[(head + i) & mask];
+        }
+        keys = newKeys;
+        vals = newVals;
+        mask = cap - 1;
+        head = 0;
+    }
+
+    // Max/min of the current window (undefined before the first push)
+    public int current() {
+        return vals[head];
+    }
+
+    // Count window: true once k samples have been seen, i.e. current() covers a full window
+    public boolean isFull() {
+        return timeBased || seq >= window;
+    }
+
+    public void clear() {
+        head = size = 0;
+        seq = 0;
+    }
+
+    public static void main(String[] args) {
+        int[] arr = {1, 3, -1, -3, 5, 3, 6, 7};
+
+        SlidingWindowAggregator max = countWindow(3, Mode.MAX);
+        SlidingWindowAggregator min = countWindow(3, Mode.MIN);
+        for (int v : arr) {
+            int hi = max.push(v);
+            int lo = min.push(v);
+            if (max.isFull()) System.out.print("[" + lo + ", " + hi + "] ");
+        }
+        System.out.println(); // [-1, 3] [-3, 3] [-3, 5] [-3, 5] [3, 6] [3, 7]
+
+        // latency samples (ms timestamp, value) with a 1000 ms window
+        long[] ts = {0, 200, 900, 1100, 1500, 2300};
+        int[] latency = {40, 95, 30, 20, 60, 10};
+        SlidingWindowAggregator peak = timeWindow(1000, Mode.MAX);
+        int[] peaks = new int[ts.length];
+        for (int i = 0; i < ts.length; i++) peaks[i] = peak.push(ts[i], latency[i]);
+        System.out.println(Arrays.toString(peaks)); // [40, 95, 95, 95, 60, 60]
+    }
+}
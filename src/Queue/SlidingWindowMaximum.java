@@ -1,42 +1,137 @@
 package Queue;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 
 public class SlidingWindowMaximum {
+    // Monotonic deque of the last k values, kept decreasing; the front is the window max.
+    // The deque is SlidingWindowAggregator's primitive ring buffer -> no boxed indices,
+    // and stale values are removed from the back (the old version polled the front).
     public static int[] maxSlidingWindow(int[] nums, int k) {
         int n = nums.length;
         int[] arr = new int[n - k + 1];
-        Deque<Integer> queue = new ArrayDeque<>();
+        SlidingWindowAggregator window = SlidingWindowAggregator.countWindow(k, SlidingWindowAggregator.Mode.MAX);
         int idx = 0;
 
-
         for (int i = 0; i < n; i++) {
-            while (!queue.isEmpty() && nums[i] > nums[queue.getLast()]) {
-                queue.poll();
+            int max = window.push(nums[i]);
 
+            if (i >= k - 1) {
+                arr[idx++] = max;
             }
 
-            queue.addLast(i);
+        }
+        return arr;
+    }
+
+    /*
+     Parallel version: block decomposition (prefix / suffix max)
+
+     ➤ Cut nums into blocks of size k: [0..k-1], [k..2k-1], ...
+        - prefix[i] = max of nums from the start of i's block up to i
+        - suffix[i] = max of nums from i up to the end of i's block
+     ➤ A window [i, i+k-1] spans at most two blocks: the tail of i's block and the head of the next one
+        -> max = max(suffix[i], prefix[i + k - 1])
+     ➤ Every block is independent, so both passes split into ForkJoin tasks over block ranges;
+        the final answer pass is independent per window.
+
+     ➤ Time: O(n) work, O(n / p) per core; Space: O(n) for prefix + suffix
+    */
+    static final int PARALLEL_THRESHOLD = 1 << 16; // elements per leaf task
+
+    public static int[] maxSlidingWindowParallel(int[] nums, int k) {
+        return maxSlidingWindowParallel(nums, k, ForkJoinPool.commonPool());
+    }
+
+    public static int[] maxSlidingWindowParallel(int[] nums, int k, ForkJoinPool pool) {
+        int n = nums.length;
+        int[] prefix = new int[n];
+        int[] suffix = new int[n];
+        int[] arr = new int[n - k + 1];
+
+        int blocks = (n + k - 1) / k;
+        int blocksPerTask = Math.max(1, PARALLEL_THRESHOLD / k);
+        pool.invoke(new BlockTask(nums, k, prefix, suffix, 0, blocks, blocksPerTask));
+        pool.invoke(new WindowTask(prefix, suffix, arr, k, 0, arr.length));
+        return arr;
+    }
 
-            if (queue.getFirst() + k == i) {
-                queue.removeFirst();
+    // Fills prefix/suffix for blocks [from, to)
+    static class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] nums, prefix, suffix;
+        final int k, from, to, grain;
+
+        BlockTask(int[] nums, int k, int[] prefix, int[] suffix, int from, int to, int grain) {
+            this.nums = nums;
+            this.k = k;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > grain) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BlockTask(nums, k, prefix, suffix, from, mid, grain),
+                        new BlockTask(nums, k, prefix, suffix, mid, to, grain));
+                return;
             }
+            for (int b = from; b < to; b++) {
+                int start = b * k;
+                int end = (int) Math.min((long) start + k, nums.length); // exclusive
 
-            if (i >= k - 1) {
-                arr[idx++] = nums[queue.getFirst()];
+                prefix[start] = nums[start];
+                for (int i = start + 1; i < end; i++) prefix[i] = Math.max(prefix[i - 1], nums[i]);
+
+                suffix[end - 1] = nums[end - 1];
+                for (int i = end - 2; i >= start; i--) suffix[i] = Math.max(suffix[i + 1], nums[i]);
             }
+        }
+    }
 
+    // Fills arr[from, to) from the prefix/suffix tables
+    static class WindowTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] prefix, suffix, arr;
+        final int k, from, to;
+
+        WindowTask(int[] prefix, int[] suffix, int[] arr, int k, int from, int to) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.arr = arr;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new WindowTask(prefix, suffix, arr, k, from, mid),
+                        new WindowTask(prefix, suffix, arr, k, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                arr[i] = Math.max(suffix[i], prefix[i + k - 1]);
+            }
         }
-        return arr;
     }
 
     public static void main(String[] args) {
         int[] arr = {1, 2, 3, 1, 4, 5, 2, 3, 6};
         int k = 3;
 
-        System.out.println(maxSlidingWindow(arr, k));
+        System.out.println(Arrays.toString(maxSlidingWindow(arr, k)));
+        System.out.println(Arrays.toString(maxSlidingWindowParallel(arr, k)));
 
 
     }
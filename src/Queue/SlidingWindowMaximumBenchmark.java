@@ -0,0 +1,64 @@
+package Queue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ maxSlidingWindow (single deque) vs maxSlidingWindowParallel (block decomposition) on 1..N threads
+
+ ➤ Speedup is relative to the sequential deque version on the same input.
+ ➤ The parallel result is checked against the deque result once per run.
+
+ ➤ Usage:
+    java -Xmx8g Queue.SlidingWindowMaximumBenchmark [n] [k]   (default 100_000_000, 1000)
+    For 10^9 entries give the JVM ~16 GB: input + prefix + suffix + output are 4 int arrays.
+*/
+
+public class SlidingWindowMaximumBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        int[] nums = new int[n];
+        Random random = new Random(3);
+        for (int i = 0; i < n; i++) nums[i] = random.nextInt();
+
+        int[] expected = SlidingWindowMaximum.maxSlidingWindow(nums, k);
+        long seq = Long.MAX_VALUE;
+        for (int r = 0; r < 3; r++) {
+            long start = System.nanoTime();
+            SlidingWindowMaximum.maxSlidingWindow(nums, k);
+            seq = Math.min(seq, System.nanoTime() - start);
+        }
+        System.out.printf("deque (1 thread): %.1f ms%n", seq / 1e6);
+
+        System.out.printf("%8s %12s %10s%n", "threads", "best(ms)", "speedup");
+        for (int p : threadCounts(cores)) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            int[] got = SlidingWindowMaximum.maxSlidingWindowParallel(nums, k, pool);
+            if (!Arrays.equals(expected, got)) throw new IllegalStateException("mismatch at " + p + " threads");
+
+            long best = Long.MAX_VALUE;
+            for (int r = 0; r < 3; r++) {
+                long start = System.nanoTime();
+                SlidingWindowMaximum.maxSlidingWindowParallel(nums, k, pool);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            pool.shutdown();
+            System.out.printf("%8d %12.1f %10.2f%n", p, best / 1e6, (double) seq / best);
+        }
+    }
+
+    // 1, 2, 4, ... below cores, then cores itself -> the last row always uses every core
+    private static int[] threadCounts(int cores) {
+        int powers = 0;
+        while (1 << powers < cores) powers++;
+        int[] counts = new int[powers + 1];
+        for (int i = 0; i < powers; i++) counts[i] = 1 << i;
+        counts[powers] = cores;
+        return counts;
+    }
+}
@@ -1,23 +1,36 @@
 package Sorting;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /*
 Counting Sort Theory:
 ----------------------
-- Best for non-negative integers and when values are within a small known range.
+- Best for integers when values are within a small known range.
 
 How it works:
-1. Find max element in array.
-2. Create a count array of size (max + 1).
+1. Find min and max element in array (one fused pass).
+2. Create a count array of size (max - min + 1) -> value v is counted at count[v - min],
+   so negative numbers work too.
 3. Count frequency of each number.
-4. Rebuild sorted array using the count array.
+4. Rebuild sorted array using the count array (ascending or descending).
 
 Time Complexity: O(n + k)
-(k = max element)
+(k = max - min + 1)
 Space: O(k)
 
-⚠ Only works with non-negative integers. Needs modification for negatives.
+Range guard:
+- If k is large compared to n (or too large to allocate) the count array costs more than it saves
+  -> fall back to RadixSort (LSD, one counting pass per 8/11-bit digit), O(n) with a small count array.
+
+Parallel version (tens of millions of small-range values):
+- min/max: each chunk finds its own, results combined.
+- histogram: the input is cut into one slice per worker; each slice fills its OWN count array
+  (no shared counters -> no contention, only p arrays of size k), then the arrays are added together.
+- rebuild: the output is split into equal slices; each slice binary-searches the prefix sums for its
+  first value and fills its slice independently.
 
 Example:
 Input: [4, 2, 2, 8, 3]
@@ -27,25 +40,205 @@ Sorted: [2, 2, 3, 4, 8]
 
 public class CountingSort {
 
+    static final int MAX_RANGE = 1 << 24;        // largest count array we allocate (64 MB)
+    static final int PARALLEL_CHUNK = 1 << 18;   // elements per leaf task
+    static final int MAX_PARALLEL_RANGE = 1 << 16; // per-chunk histograms must stay small
+
+    // Original behaviour: descending order
     public static void countingSort(int[] arr) {
+        countingSort(arr, false);
+    }
+
+    public static void countingSort(int[] arr, boolean ascending) {
         if (arr.length == 0) return;
 
-        // Step 1: Find max element
-        int max = Arrays.stream(arr).max().getAsInt();
+        // Step 1: Find min and max in one pass
+        int min = arr[0], max = arr[0];
+        for (int num : arr) {
+            if (num < min) min = num;
+            else if (num > max) max = num;
+        }
+
+        long range = (long) max - min + 1;
+        if (useRadix(range, arr.length)) {
+            radixSort(arr, ascending);
+            return;
+        }
 
-        // Step 2: Create count array --> frequency array
-        int[] count = new int[max + 1];
+        // Step 2: Create count array --> frequency array, shifted by min
+        int[] count = new int[(int) range];
 
         // Step 3: Store frequencies
         for (int num : arr) {
-            count[num]++;
+            count[num - min]++;
         }
 
         // Step 4: Rebuild sorted array from frequency array
         int index = 0;
-        for (int i = count.length - 1; i >= 0; i--) {  // for increasing order start i from 0 to count.length
-            while (count[i]-- > 0) {
-                arr[index++] = i;
+        if (ascending) {
+            for (int i = 0; i < count.length; i++) {
+                for (int c = count[i]; c > 0; c--) arr[index++] = i + min;
+            }
+        } else {
+            for (int i = count.length - 1; i >= 0; i--) {
+                for (int c = count[i]; c > 0; c--) arr[index++] = i + min;
+            }
+        }
+    }
+
+    // counting only pays off while the count array is not much bigger than the input
+    static boolean useRadix(long range, int n) {
+        return range > MAX_RANGE || range > 4L * n + 1024;
+    }
+
+    // ---------- parallel ----------
+
+    public static void parallelCountingSort(int[] arr, boolean ascending) {
+        parallelCountingSort(arr, ascending, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelCountingSort(int[] arr, boolean ascending, ForkJoinPool pool) {
+        int n = arr.length;
+        if (n < 2 * PARALLEL_CHUNK || pool.getParallelism() == 1) {
+            countingSort(arr, ascending);
+            return;
+        }
+
+        int[] minMax = pool.invoke(new MinMaxTask(arr, 0, n));
+        int min = minMax[0], max = minMax[1];
+        long range = (long) max - min + 1;
+        if (range > MAX_PARALLEL_RANGE || useRadix(range, n)) {
+            countingSort(arr, ascending); // sequential path already handles big ranges / radix fallback
+            return;
+        }
+
+        int slice = Math.max(PARALLEL_CHUNK, (n + pool.getParallelism() - 1) / pool.getParallelism());
+        int[] count = pool.invoke(new HistogramTask(arr, 0, n, min, (int) range, slice));
+
+        // start[v] = first output index of value v (in output order)
+        int k = (int) range;
+        int[] start = new int[k + 1];
+        for (int v = 0; v < k; v++) {
+            int value = ascending ? v : k - 1 - v;
+            start[v + 1] = start[v] + count[value];
+        }
+        pool.invoke(new FillTask(arr, start, ascending ? min : max, ascending ? 1 : -1, 0, n));
+    }
+
+    static class MinMaxTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int from, to;
+
+        MinMaxTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                int min = arr[from], max = arr[from];
+                for (int i = from; i < to; i++) {
+                    int num = arr[i];
+                    if (num < min) min = num;
+                    else if (num > max) max = num;
+                }
+                return new int[]{min, max};
+            }
+            int mid = (from + to) >>> 1;
+            MinMaxTask left = new MinMaxTask(arr, from, mid);
+            left.fork();
+            int[] r = new MinMaxTask(arr, mid, to).compute();
+            int[] l = left.join();
+            return new int[]{Math.min(l[0], r[0]), Math.max(l[1], r[1])};
+        }
+    }
+
+    // one leaf per worker-sized slice counts into its own array; parents add the right child into the left one
+    static class HistogramTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int from, to, min, range, slice;
+
+        HistogramTask(int[] arr, int from, int to, int min, int range, int slice) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.min = min;
+            this.range = range;
+            this.slice = slice;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= slice) {
+                int[] count = new int[range];
+                for (int i = from; i < to; i++) count[arr[i] - min]++;
+                return count;
+            }
+            int mid = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(arr, from, mid, min, range, slice);
+            left.fork();
+            int[] r = new HistogramTask(arr, mid, to, min, range, slice).compute();
+            int[] l = left.join();
+            for (int v = 0; v < range; v++) l[v] += r[v];
+            return l;
+        }
+    }
+
+    // fill arr[from, to): the k-th distinct slot holds value first + k * step
+    static class FillTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr, start;
+        final int first, step, from, to;
+
+        FillTask(int[] arr, int[] start, int first, int step, int from, int to) {
+            this.arr = arr;
+            this.start = start;
+            this.first = first;
+            this.step = step;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                // last slot whose start is <= from
+                int lo = 0, hi = start.length - 2;
+                while (lo < hi) {
+                    int mid = (lo + hi + 1) >>> 1;
+                    if (start[mid] <= from) lo = mid;
+                    else hi = mid - 1;
+                }
+                for (int v = lo, i = from; i < to; v++) {
+                    int end = Math.min(to, start[v + 1]);
+                    if (end > i) {
+                        Arrays.fill(arr, i, end, first + v * step);
+                        i = end;
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FillTask(arr, start, first, step, from, mid), new FillTask(arr, start, first, step, mid, to));
+        }
+    }
+
+    // ---------- radix fallback for wide ranges ----------
+
+    static void radixSort(int[] arr, boolean ascending) {
+        RadixSort.sort(arr);
+        if (!ascending) {
+            for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+                int temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
             }
         }
     }
@@ -56,6 +249,13 @@ public class CountingSort {
         countingSort(nums);
 
         System.out.println(Arrays.toString(nums));
+
+        int[] mixed = {4, -2, 2, -8, 3, 0, -2};
+        countingSort(mixed, true);
+        System.out.println(Arrays.toString(mixed));     // [-8, -2, -2, 0, 2, 3, 4]
+
+        int[] wide = {1_000_000_000, -5, Integer.MIN_VALUE, 7};
+        countingSort(wide, true);                       // range too wide -> radix fallback
+        System.out.println(Arrays.toString(wide));
     }
 }
-
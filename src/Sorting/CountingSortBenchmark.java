@@ -0,0 +1,63 @@
+package Sorting;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ CountingSort on small-range "status code" batches
+
+ ➤ Input: n values drawn from 40 HTTP-like status codes (100..599), plus one wide-range random case
+   that takes the radix fallback.
+ ➤ Sorts: countingSort (ascending), parallelCountingSort on 1..N threads, Arrays.sort, Arrays.parallelSort.
+ ➤ Every result is checked against Arrays.sort.
+
+ ➤ Usage:
+    java -Xmx2g Sorting.CountingSortBenchmark [n]   (default 20_000_000)
+*/
+
+public class CountingSortBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        Random random = new Random(22);
+
+        int[] codes = new int[40];
+        for (int i = 0; i < codes.length; i++) codes[i] = 100 + random.nextInt(500);
+        int[] status = new int[n];
+        for (int i = 0; i < n; i++) status[i] = codes[random.nextInt(codes.length)];
+        int[] wide = random.ints(n).toArray();
+
+        run("status", status, cores);
+        run("wide", wide, cores);
+    }
+
+    private static void run(String name, int[] input, int cores) {
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        System.out.printf("%s:%n", name);
+        report("countingSort", input, expected, a -> CountingSort.countingSort(a, true));
+        for (int p = 1; p <= cores; p = p < cores && p * 2 > cores ? cores : p * 2) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            report("parallel x" + p, input, expected, a -> CountingSort.parallelCountingSort(a, true, pool));
+            pool.shutdown();
+        }
+        report("Arrays.sort", input, expected, Arrays::sort);
+        report("Arrays.parallelSort", input, expected, Arrays::parallelSort);
+    }
+
+    private static void report(String label, int[] input, int[] expected, Consumer<int[]> sorter) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 4; r++) {
+            int[] a = input.clone();
+            long start = System.nanoTime();
+            sorter.accept(a);
+            best = Math.min(best, System.nanoTime() - start);
+            if (!Arrays.equals(a, expected)) throw new IllegalStateException(label + ": wrong result");
+        }
+        System.out.printf("  %-20s %10.1f ms%n", label, best / 1e6);
+    }
+}
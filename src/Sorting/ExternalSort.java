@@ -0,0 +1,328 @@
+package Sorting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+External Merge Sort:
+---------------------
+- Every other sort in this package needs the whole int[] on the heap.
+- A file of several hundred GB doesn't fit -> sort it in pieces that do fit, then merge the pieces.
+
+How it works:
+1. Run phase:
+   - Read up to runRecords ints from the input through a FileChannel buffer into one reused int[].
+   - Sort it in memory (RadixSort with a reused scratch buffer).
+   - Spill it to a temp file -> one sorted "run".
+2. Merge phase:
+   - Merge up to fanIn runs at a time into one bigger run, until one run is left (the output).
+   - Each run gets its own read buffer; the smallest current head is picked by a tournament
+     (loser) tree over primitive long keys -> log2(fanIn) comparisons per record, no boxing.
+   - runs > fanIn -> several passes; every pass reads and writes the data once.
+
+Records:
+- 4-byte big-endian ints (DataOutputStream / ByteBuffer default order); file size must be a multiple of 4.
+
+Memory budget:
+- run phase  : runRecords * 8 bytes (run + radix scratch) + one I/O buffer
+- merge phase: (fanIn + 1) buffers (fanIn inputs + output), each budget / (fanIn + 1) bytes
+- the constructor rejects settings that don't fit.
+- direct buffers are allocated once per sort() call (the I/O buffer up front, the merge buffers at the
+  first merge pass) and reused by every run, group and pass -> off-heap use never grows past the budget.
+
+Time Complexity: O(n log n) CPU, I/O = 2 * (1 + ceil(log_fanIn(runs))) passes over the data
+Space: memoryBudget bytes (heap arrays + direct I/O buffers) + up to 2x the input size on disk for temp runs
+*/
+
+public class ExternalSort {
+
+    public static final class Stats {
+        public long records;
+        public long runs;
+        public long mergePasses;
+        public long recordsMerged;  // in the current merge pass
+        public long bytesSpilled;   // temp bytes written, all passes
+        public long runPhaseNanos;
+        public long mergePhaseNanos;
+
+        @Override
+        public String toString() {
+            return String.format("records=%d runs=%d mergePasses=%d spilled=%dMB run=%.1fs merge=%.1fs",
+                    records, runs, mergePasses, bytesSpilled >> 20, runPhaseNanos / 1e9, mergePhaseNanos / 1e9);
+        }
+    }
+
+    public interface ProgressListener {
+        void onProgress(String phase, Stats stats);
+    }
+
+    private static final int IO_BUFFER = 1 << 20;
+    private static final int MIN_MERGE_BUFFER = 1 << 12;
+    private static final long REPORT_EVERY = 1 << 24; // records between merge progress callbacks
+
+    private final int runRecords;
+    private final int fanIn;
+    private final int mergeBuffer;
+    private final Path tempDir;
+
+    public ExternalSort(long memoryBudget, int runRecords, int fanIn, Path tempDir) {
+        if (runRecords < 1) throw new IllegalArgumentException("runRecords must be positive");
+        if (fanIn < 2) throw new IllegalArgumentException("fanIn must be at least 2");
+        if (8L * runRecords + IO_BUFFER > memoryBudget) {
+            throw new IllegalArgumentException("run of " + runRecords + " records needs " + (8L * runRecords + IO_BUFFER)
+                    + " bytes, budget is " + memoryBudget);
+        }
+        long perBuffer = memoryBudget / (fanIn + 1) & ~3L;
+        if (perBuffer < MIN_MERGE_BUFFER) {
+            throw new IllegalArgumentException("fanIn " + fanIn + " leaves " + perBuffer + " bytes per merge buffer");
+        }
+        this.runRecords = runRecords;
+        this.fanIn = fanIn;
+        this.mergeBuffer = (int) Math.min(perBuffer, 1 << 26);
+        this.tempDir = tempDir;
+    }
+
+    // Largest run that fits the budget; fan-in fixed by the caller
+    public static ExternalSort withBudget(long memoryBudget, int fanIn, Path tempDir) {
+        long records = (memoryBudget - IO_BUFFER) / 8;
+        return new ExternalSort(memoryBudget, (int) Math.min(records, Integer.MAX_VALUE - 8), fanIn, tempDir);
+    }
+
+    public Stats sort(Path input, Path output, ProgressListener listener) throws IOException {
+        Stats stats = new Stats();
+        List<Path> runs = new ArrayList<>();
+        List<Path> temps = new ArrayList<>(); // merge outputs of earlier passes
+        try {
+            long start = System.nanoTime();
+            createRuns(input, output, runs, stats, listener, ByteBuffer.allocateDirect(IO_BUFFER));
+            stats.runPhaseNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            // [0, fanIn) feed the readers of a group, [fanIn] collects the merge output
+            ByteBuffer[] buffers = new ByteBuffer[fanIn + 1];
+            if (runs.size() > 1) {
+                for (int i = 0; i <= fanIn; i++) buffers[i] = ByteBuffer.allocateDirect(mergeBuffer);
+            }
+            while (runs.size() > 1) {
+                stats.mergePasses++;
+                stats.recordsMerged = 0;
+                boolean last = runs.size() <= fanIn;
+                List<Path> next = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+                    if (group.size() == 1) { // leftover run: carried to the next pass as is
+                        next.add(group.get(0));
+                        continue;
+                    }
+                    Path target = output;
+                    if (!last) {
+                        target = Files.createTempFile(tempDir, "run", ".bin");
+                        temps.add(target);
+                        next.add(target);
+                    }
+                    merge(group, target, stats, listener, !last, buffers);
+                    for (Path p : group) Files.delete(p);
+                }
+                runs = next;
+                stats.mergePhaseNanos = System.nanoTime() - start;
+                listener.onProgress("merge pass " + stats.mergePasses + " done", stats);
+            }
+            return stats;
+        } finally {
+            for (Path p : runs) Files.deleteIfExists(p);
+            for (Path p : temps) Files.deleteIfExists(p);
+        }
+    }
+
+    // ---------- run phase ----------
+
+    private void createRuns(Path input, Path output, List<Path> runs, Stats stats, ProgressListener listener,
+                            ByteBuffer buffer) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size % 4 != 0) throw new IllegalArgumentException("file size " + size + " is not a multiple of 4");
+            stats.records = size / 4;
+
+            int[] run = new int[(int) Math.min(runRecords, stats.records)];
+            int[] scratch = new int[run.length];
+            long remaining = stats.records;
+
+            if (remaining == 0) {
+                write(output, run, 0, new Stats(), buffer); // empty input -> empty output
+                return;
+            }
+            while (remaining > 0) {
+                int n = (int) Math.min(run.length, remaining);
+                readInts(in, buffer, run, n);
+                remaining -= n;
+                RadixSort.sort(run, 0, n, scratch);
+
+                // everything fit into one run -> it is already the output
+                if (runs.isEmpty() && remaining == 0) {
+                    write(output, run, n, new Stats(), buffer);
+                    stats.runs = 1;
+                    listener.onProgress("runs", stats);
+                    return;
+                }
+                Path file = Files.createTempFile(tempDir, "run", ".bin");
+                runs.add(file);
+                write(file, run, n, stats, buffer);
+                stats.runs++;
+                listener.onProgress("runs", stats);
+            }
+        }
+    }
+
+    private static void readInts(FileChannel in, ByteBuffer buffer, int[] dst, int n) throws IOException {
+        int filled = 0;
+        while (filled < n) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), 4L * (n - filled)));
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer) < 0) throw new IOException("unexpected end of input");
+            }
+            buffer.flip();
+            IntBuffer ints = buffer.asIntBuffer();
+            int k = ints.remaining();
+            ints.get(dst, filled, k);
+            filled += k;
+        }
+    }
+
+    private static void write(Path file, int[] src, int n, Stats stats, ByteBuffer buffer) throws IOException {
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int off = 0; off < n; ) {
+                buffer.clear();
+                int k = Math.min(n - off, buffer.capacity() / 4);
+                buffer.asIntBuffer().put(src, off, k);
+                buffer.limit(4 * k);
+                while (buffer.hasRemaining()) out.write(buffer);
+                off += k;
+            }
+            stats.bytesSpilled += 4L * n;
+        }
+    }
+
+    // ---------- merge phase ----------
+
+    // Sequential reader over one run; the buffer is lent by sort() and reset here for this run
+    private static final class RunReader implements AutoCloseable {
+        final FileChannel channel;
+        final ByteBuffer buffer;
+
+        RunReader(Path file, ByteBuffer buffer) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buffer = buffer;
+            buffer.clear().limit(0);
+        }
+
+        // next record as a long, or Long.MAX_VALUE when the run is exhausted
+        long next() throws IOException {
+            if (buffer.remaining() < 4) {
+                buffer.compact();
+                int read = 0;
+                while (buffer.hasRemaining() && read >= 0) read = channel.read(buffer);
+                buffer.flip();
+                if (buffer.remaining() < 4) return Long.MAX_VALUE;
+            }
+            return buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private void merge(List<Path> group, Path target, Stats stats, ProgressListener listener, boolean spill,
+                       ByteBuffer[] buffers) throws IOException {
+        int k = group.size();
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < k; i++) readers[i] = new RunReader(group.get(i), buffers[i]);
+
+            // loser tree: keys[k] is a -inf sentinel used only while building
+            long[] keys = new long[k + 1];
+            int[] tree = new int[k];
+            for (int i = 0; i < k; i++) keys[i] = readers[i].next();
+            keys[k] = Long.MIN_VALUE;
+            Arrays.fill(tree, k);
+            for (int i = k - 1; i >= 0; i--) adjust(tree, keys, i, k);
+
+            ByteBuffer buffer = buffers[fanIn];
+            buffer.clear();
+            while (true) {
+                int winner = tree[0];
+                long key = keys[winner];
+                if (key == Long.MAX_VALUE) break; // every run exhausted
+
+                if (buffer.remaining() < 4) flush(out, buffer);
+                buffer.putInt((int) key);
+                if (spill) stats.bytesSpilled += 4;
+                if (++stats.recordsMerged % REPORT_EVERY == 0) listener.onProgress("merge pass " + stats.mergePasses, stats);
+
+                keys[winner] = readers[winner].next();
+                adjust(tree, keys, winner, k);
+            }
+            flush(out, buffer);
+        } finally {
+            for (RunReader r : readers) {
+                if (r != null) r.close();
+            }
+        }
+    }
+
+    // replay the matches from leaf s up to the root; losers stay in the nodes, the winner goes to tree[0]
+    private static void adjust(int[] tree, long[] keys, int s, int k) {
+        for (int t = (s + k) >> 1; t > 0; t >>= 1) {
+            if (keys[s] > keys[tree[t]]) {
+                int temp = s;
+                s = tree[t];
+                tree[t] = temp;
+            }
+        }
+        tree[0] = s;
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("extsort");
+        Path input = dir.resolve("in.bin"), output = dir.resolve("out.bin");
+        try {
+            int n = 1_000_000;
+            ByteBuffer data = ByteBuffer.allocate(4 * n);
+            Random random = new Random(24);
+            for (int i = 0; i < n; i++) data.putInt(random.nextInt());
+            Files.write(input, data.array());
+
+            // 4 MB budget, 100k-record runs -> 10 runs, fan-in 4 -> 2 merge passes
+            ExternalSort sorter = new ExternalSort(4 << 20, 100_000, 4, dir);
+            Stats stats = sorter.sort(input, output, (phase, s) -> System.out.println(phase + ": " + s));
+
+            ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+            boolean ok = sorted.remaining() == 4 * n;
+            for (int i = 1; ok && i < n; i++) ok = sorted.getInt(4 * (i - 1)) <= sorted.getInt(4 * i);
+            System.out.println("sorted: " + ok + " (" + stats + ")");
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.delete(dir);
+        }
+    }
+}
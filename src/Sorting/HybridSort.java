@@ -0,0 +1,307 @@
+package Sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+Hybrid Sort Engine:
+--------------------
+- BubbleSort / SelectionSort / InsertionSort are O(n^2) -> fine for 20 elements, useless for 20 million.
+- This engine combines the ideas so each one only runs where it is good.
+
+1. sort(int[])  -> Introsort
+   - Quicksort with a median-of-3 pivot (ninther above 128 elements) and a 3-way partition
+     (< pivot | == pivot | > pivot) -> many duplicates collapse into one middle block, few-unique input stays O(n log k).
+   - Partitions below 24 elements are finished by InsertionSort.insertionSort(arr, from, to).
+   - Recursion depth is capped at 2 * log2(n); past it the range is heapsorted -> O(n log n) worst case.
+   - Already ascending / descending input is detected in one O(n) scan up front.
+
+2. parallelSort(int[]) -> ForkJoin merge sort (arrays over 1M elements)
+   - Split in halves until a leaf is small enough, introsort every leaf in parallel,
+     then merge halves back together; big merges are themselves split (median of the longer run +
+     binary search in the shorter one) so the last merge doesn't run on one core.
+
+3. stableSort(T[], Comparator) -> bottom-up merge sort
+   - Insertion-sort runs of 32, then merge runs of width 32, 64, 128 ... between the array and one buffer
+     (ping-pong, no copy back per pass). Equal elements keep their input order.
+
+Time Complexity: O(n log n) worst case for all three
+Space: O(log n) for sort, O(n) for parallelSort and stableSort
+*/
+
+public class HybridSort {
+
+    static final int INSERTION_THRESHOLD = 24;
+    static final int PARALLEL_THRESHOLD = 1 << 20; // below this parallelSort just calls sort
+    private static final int MIN_LEAF = 1 << 16;
+    private static final int MERGE_THRESHOLD = 1 << 15;
+    private static final int STABLE_RUN = 32;
+
+    // ---------- 1. introsort ----------
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    public static void sort(int[] arr, int from, int to) {
+        if (to - from < 2) return;
+
+        // one scan: already ascending -> done, descending -> reverse
+        int i = from + 1;
+        while (i < to && arr[i - 1] <= arr[i]) i++;
+        if (i == to) return;
+        if (i == from + 1) {
+            while (i < to && arr[i - 1] >= arr[i]) i++;
+            if (i == to) {
+                reverse(arr, from, to);
+                return;
+            }
+        }
+
+        introsort(arr, from, to, 2 * (31 - Integer.numberOfLeadingZeros(to - from)));
+    }
+
+    private static void introsort(int[] arr, int lo, int hi, int depth) {
+        while (hi - lo > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(arr, lo, hi);
+                return;
+            }
+            int pivot = choosePivot(arr, lo, hi);
+
+            // 3-way partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi) > pivot
+            int lt = lo, gt = hi - 1, k = lo;
+            while (k <= gt) {
+                int v = arr[k];
+                if (v < pivot) swap(arr, lt++, k++);
+                else if (v > pivot) swap(arr, k, gt--);
+                else k++;
+            }
+
+            // recurse into the smaller side, loop on the larger -> O(log n) stack
+            if (lt - lo < hi - gt - 1) {
+                introsort(arr, lo, lt, depth);
+                lo = gt + 1;
+            } else {
+                introsort(arr, gt + 1, hi, depth);
+                hi = lt;
+            }
+        }
+        InsertionSort.insertionSort(arr, lo, hi);
+    }
+
+    private static int choosePivot(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        int mid = lo + n / 2;
+        if (n > 128) { // ninther: median of three medians
+            int s = n / 8;
+            return median(median(arr[lo], arr[lo + s], arr[lo + 2 * s]),
+                    median(arr[mid - s], arr[mid], arr[mid + s]),
+                    median(arr[hi - 1 - 2 * s], arr[hi - 1 - s], arr[hi - 1]));
+        }
+        return median(arr[lo], arr[mid], arr[hi - 1]);
+    }
+
+    private static int median(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void heapSort(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(arr, lo, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, lo, lo + end);
+            siftDown(arr, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] arr, int base, int i, int n) {
+        int v = arr[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) child++;
+            if (arr[base + child] <= v) break;
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = v;
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private static void reverse(int[] arr, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) swap(arr, i, j);
+    }
+
+    // ---------- 2. parallel merge sort ----------
+
+    public static void parallelSort(int[] arr) {
+        parallelSort(arr, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(int[] arr, ForkJoinPool pool) {
+        int n = arr.length;
+        if (n < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            sort(arr);
+            return;
+        }
+        // ~4 leaves per worker so stragglers can be balanced by work stealing
+        int leaf = Math.max(MIN_LEAF, n / (4 * pool.getParallelism()));
+        pool.invoke(new SortTask(arr, new int[n], 0, n, leaf));
+    }
+
+    static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr, buf;
+        final int lo, hi, leaf;
+
+        SortTask(int[] arr, int[] buf, int lo, int hi, int leaf) {
+            this.arr = arr;
+            this.buf = buf;
+            this.lo = lo;
+            this.hi = hi;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= leaf) {
+                sort(arr, lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(arr, buf, lo, mid, leaf), new SortTask(arr, buf, mid, hi, leaf));
+            if (arr[mid - 1] <= arr[mid]) return; // halves already in order
+
+            new MergeTask(arr, lo, mid, mid, hi, buf, lo).compute();
+            System.arraycopy(buf, lo, arr, lo, hi - lo);
+        }
+    }
+
+    // merge src[lo1, hi1) and src[lo2, hi2) into dst starting at out
+    static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] src, dst;
+        final int lo1, hi1, lo2, hi2, out;
+
+        MergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1, n2 = hi2 - lo2;
+            if (n1 + n2 <= MERGE_THRESHOLD) {
+                merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            // split the longer run at its middle, find the same value in the other run
+            int m1, m2;
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                m2 = lowerBound(src, lo2, hi2, src[m1]);
+            } else {
+                m2 = (lo2 + hi2) >>> 1;
+                m1 = upperBound(src, lo1, hi1, src[m2]);
+            }
+            int split = out + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new MergeTask(src, lo1, m1, lo2, m2, dst, out),
+                    new MergeTask(src, m1, hi1, m2, hi2, dst, split));
+        }
+    }
+
+    private static void merge(int[] src, int i, int hi1, int j, int hi2, int[] dst, int k) {
+        while (i < hi1 && j < hi2) dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+        System.arraycopy(src, i, dst, k, hi1 - i);
+        System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+    }
+
+    // first index in [lo, hi) with arr[idx] >= key
+    private static int lowerBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // first index in [lo, hi) with arr[idx] > key
+    private static int upperBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // ---------- 3. stable merge sort ----------
+
+    public static <T> void stableSort(T[] arr, Comparator<? super T> cmp) {
+        int n = arr.length;
+        if (n < 2) return;
+
+        // insertion-sort fixed runs (stable: only strictly greater elements are shifted)
+        for (int lo = 0; lo < n; lo += STABLE_RUN) {
+            int hi = Math.min(n, lo + STABLE_RUN);
+            for (int i = lo + 1; i < hi; i++) {
+                T key = arr[i];
+                int j = i - 1;
+                while (j >= lo && cmp.compare(arr[j], key) > 0) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+            }
+        }
+
+        // merge passes, alternating between arr and buf
+        T[] src = arr, dst = Arrays.copyOf(arr, n);
+        for (int width = STABLE_RUN; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(n, lo + width), hi = Math.min(n, lo + 2 * width);
+                int i = lo, j = mid, k = lo;
+                // take from the left run on ties -> stable
+                while (i < mid && j < hi) dst[k++] = cmp.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+                System.arraycopy(src, i, dst, k, mid - i);
+                System.arraycopy(src, j, dst, k + mid - i, hi - j);
+            }
+            T[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
+    }
+
+    public static void main(String[] args) {
+        int[] nums = {5, 2, 9, 1, 5, 6, -3, 0, 5, 2};
+        sort(nums);
+        System.out.println(Arrays.toString(nums));
+
+        int[] big = new java.util.Random(1).ints(2_000_000).toArray();
+        int[] copy = big.clone();
+        parallelSort(big);
+        Arrays.sort(copy);
+        System.out.println("parallelSort matches Arrays.sort: " + Arrays.equals(big, copy));
+
+        String[] words = {"pear", "fig", "apple", "kiwi", "plum", "date"};
+        stableSort(words, Comparator.comparingInt(String::length)); // same-length words keep input order
+        System.out.println(Arrays.toString(words));                  // [fig, pear, kiwi, plum, date, apple]
+    }
+}
@@ -0,0 +1,82 @@
+package Sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/*
+ HybridSort vs Arrays.sort / Arrays.parallelSort
+
+ ➤ Inputs (n ints): random, sorted, reverse, few-unique (values 0..15)
+ ➤ Sorts: HybridSort.sort, HybridSort.parallelSort, Arrays.sort, Arrays.parallelSort
+   + HybridSort.stableSort vs Arrays.sort(T[], Comparator) on n / 10 records {key 0..999, input position},
+     compared by key only -> equal keys must come out in input position order (checks stability)
+ ➤ Each cell: best of 5 runs on a fresh copy; every result is checked against Arrays.sort.
+
+ ➤ Usage:
+    java -Xmx2g Sorting.HybridSortBenchmark [n]   (default 10_000_000)
+*/
+
+public class HybridSortBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(21);
+
+        int[] rnd = random.ints(n).toArray();
+        int[] sorted = rnd.clone();
+        Arrays.sort(sorted);
+        int[] reverse = new int[n];
+        for (int i = 0; i < n; i++) reverse[i] = sorted[n - 1 - i];
+        int[] few = random.ints(n, 0, 16).toArray();
+
+        String[] names = {"random", "sorted", "reverse", "few-unique"};
+        int[][] inputs = {rnd, sorted, reverse, few};
+
+        System.out.printf("%-11s %12s %12s %12s %12s%n", "input", "hybrid", "hybrid-par", "Arrays", "Arrays-par");
+        for (int c = 0; c < inputs.length; c++) {
+            int[] expected = inputs[c].clone();
+            Arrays.sort(expected);
+            System.out.printf("%-11s %12.1f %12.1f %12.1f %12.1f%n", names[c],
+                    time(inputs[c], expected, HybridSort::sort),
+                    time(inputs[c], expected, HybridSort::parallelSort),
+                    time(inputs[c], expected, Arrays::sort),
+                    time(inputs[c], expected, Arrays::parallelSort));
+        }
+
+        int[][] records = new int[n / 10][];
+        for (int i = 0; i < records.length; i++) records[i] = new int[]{random.nextInt(1000), i};
+        Comparator<int[]> cmp = Comparator.comparingInt(rec -> rec[0]);
+        long stable = Long.MAX_VALUE, jdk = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            int[][] a = records.clone(), b = records.clone();
+            long start = System.nanoTime();
+            HybridSort.stableSort(a, cmp);
+            stable = Math.min(stable, System.nanoTime() - start);
+            start = System.nanoTime();
+            Arrays.sort(b, cmp);
+            jdk = Math.min(jdk, System.nanoTime() - start);
+            for (int i = 1; i < a.length; i++) {
+                if (a[i - 1][0] > a[i][0] || a[i - 1][0] == a[i][0] && a[i - 1][1] > a[i][1]) {
+                    throw new IllegalStateException("stableSort out of order or unstable at " + i);
+                }
+            }
+            if (!Arrays.equals(a, b)) throw new IllegalStateException("stableSort differs from Arrays.sort");
+        }
+        System.out.printf("stable (%d records): hybrid %.1f ms, Arrays.sort %.1f ms%n", records.length, stable / 1e6, jdk / 1e6);
+    }
+
+    // best of 5, in ms
+    private static double time(int[] input, int[] expected, Consumer<int[]> sorter) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            int[] a = input.clone();
+            long start = System.nanoTime();
+            sorter.accept(a);
+            best = Math.min(best, System.nanoTime() - start);
+            if (!Arrays.equals(a, expected)) throw new IllegalStateException("wrong result");
+        }
+        return best / 1e6;
+    }
+}
@@ -1,5 +1,7 @@
 package Sorting;
 
+import BinarySearch.bs;
+
 import java.util.Arrays;
 
 /*
@@ -28,14 +30,19 @@ public class InsertionSort {
 
 
     public static void insertionSort(int[] arr) {
+        insertionSort(arr, 0, arr.length);
+    }
 
-        for (int i = 1; i < arr.length; i++) {
+    // Sort only arr[from, to) -> used by HybridSort to finish small partitions
+    public static void insertionSort(int[] arr, int from, int to) {
+
+        for (int i = from + 1; i < to; i++) {
             int key = arr[i]; // Element to insert
             int j = i - 1;
 
             // Shift elements greater than key to the right
             // so that we can find out the correct position to insert
-            while (j >= 0 && arr[j] > key) {  // for decreasing order you can use '<' operator
+            while (j >= from && arr[j] > key) {  // for decreasing order you can use '<' operator
                 arr[j + 1] = arr[j];
                 j--;
             }
@@ -45,11 +52,142 @@ public class InsertionSort {
         }
     }
 
+    /*
+     Adaptive variant (nearly-sorted input)
+
+     ➤ Binary insertion: find the insertion point with bs.upperBound (O(log i) compares instead of O(i)),
+        then move the whole block in one System.arraycopy instead of shifting one slot at a time.
+        upperBound puts a key after its equals -> still stable.
+
+     ➤ Natural runs (TimSort idea):
+        - walk the array and cut it into runs that are already ascending (or strictly descending -> reversed);
+        - a run shorter than MIN_RUN is extended to MIN_RUN with binary insertion;
+        - runs go on a stack, and neighbouring runs are merged while the stack breaks
+          |Z| > |Y| + |X| and |Y| > |X|   (X = top) -> merges stay balanced, O(n log n) worst case.
+        - before a merge, the part of the left run already <= right[0] and the part of the right run
+          already >= left[last] are cut off with binary search; only the overlap is merged,
+          through a temp buffer the size of the smaller side.
+
+     ➤ Already sorted / reversed: one scan, O(n). k runs: O(n log k). Random: O(n log n).
+    */
+    static final int MIN_RUN = 32;
+
+    // sort arr[from, to) where arr[from, start) is already sorted
+    public static void binaryInsertionSort(int[] arr, int from, int start, int to) {
+        for (int i = Math.max(start, from + 1); i < to; i++) {
+            int key = arr[i];
+            int pos = bs.upperBound(arr, from, i, key);
+            System.arraycopy(arr, pos, arr, pos + 1, i - pos); // block move
+            arr[pos] = key;
+        }
+    }
+
+    public static void adaptiveSort(int[] arr) {
+        int n = arr.length;
+        if (n < 2) return;
+        if (n <= MIN_RUN) {
+            binaryInsertionSort(arr, 0, countRun(arr, 0, n), n);
+            return;
+        }
+
+        int[] runStart = new int[64], runLen = new int[64];
+        int stack = 0;
+        int[] tmp = new int[0];
+
+        for (int lo = 0; lo < n; ) {
+            int len = countRun(arr, lo, n) - lo;
+            if (len < MIN_RUN) {
+                int forced = Math.min(MIN_RUN, n - lo);
+                binaryInsertionSort(arr, lo, lo + len, lo + forced);
+                len = forced;
+            }
+            runStart[stack] = lo;
+            runLen[stack] = len;
+            stack++;
+            lo += len;
+
+            // restore the invariants
+            while (stack > 1) {
+                int x = stack - 1;
+                if (x >= 2 && runLen[x - 2] <= runLen[x - 1] + runLen[x]) {
+                    int at = runLen[x - 2] < runLen[x] ? x - 2 : x - 1; // merge Y with the smaller neighbour
+                    tmp = mergeAt(arr, runStart, runLen, at, stack, tmp);
+                } else if (runLen[x - 1] <= runLen[x]) {
+                    tmp = mergeAt(arr, runStart, runLen, x - 1, stack, tmp);
+                } else {
+                    break;
+                }
+                stack--;
+            }
+        }
+        while (stack > 1) {
+            tmp = mergeAt(arr, runStart, runLen, stack - 2, stack, tmp);
+            stack--;
+        }
+    }
+
+    // end of the natural run starting at lo; a strictly descending run is reversed in place
+    private static int countRun(int[] arr, int lo, int hi) {
+        int i = lo + 1;
+        if (i == hi) return hi;
+        if (arr[i] < arr[lo]) {
+            while (i < hi && arr[i] < arr[i - 1]) i++;
+            for (int a = lo, b = i - 1; a < b; a++, b--) {
+                int temp = arr[a];
+                arr[a] = arr[b];
+                arr[b] = temp;
+            }
+        } else {
+            while (i < hi && arr[i] >= arr[i - 1]) i++;
+        }
+        return i;
+    }
+
+    // merge run i with run i + 1, drop run i + 1 from the stack; returns the (possibly grown) temp buffer
+    private static int[] mergeAt(int[] arr, int[] runStart, int[] runLen, int i, int stack, int[] tmp) {
+        int lo = runStart[i], mid = lo + runLen[i], hi = mid + runLen[i + 1];
+        runLen[i] += runLen[i + 1];
+        for (int k = i + 1; k < stack - 1; k++) {
+            runStart[k] = runStart[k + 1];
+            runLen[k] = runLen[k + 1];
+        }
+
+        // trim what is already in place
+        lo = bs.upperBound(arr, lo, mid, arr[mid]);
+        if (lo == mid) return tmp;
+        hi = bs.lowerBound(arr, mid, hi, arr[mid - 1]);
+
+        int leftLen = mid - lo, rightLen = hi - mid;
+        if (tmp.length < Math.min(leftLen, rightLen)) tmp = new int[Math.max(Math.min(leftLen, rightLen), 2 * tmp.length)];
+
+        if (leftLen <= rightLen) {
+            // copy left out, merge forwards
+            System.arraycopy(arr, lo, tmp, 0, leftLen);
+            int a = 0, b = mid, k = lo;
+            while (a < leftLen && b < hi) arr[k++] = arr[b] < tmp[a] ? arr[b++] : tmp[a++];
+            System.arraycopy(tmp, a, arr, k, leftLen - a);
+        } else {
+            // copy right out, merge backwards
+            System.arraycopy(arr, mid, tmp, 0, rightLen);
+            int a = mid - 1, b = rightLen - 1, k = hi - 1;
+            while (a >= lo && b >= 0) arr[k--] = tmp[b] < arr[a] ? arr[a--] : tmp[b--];
+            System.arraycopy(tmp, 0, arr, lo, b + 1);
+        }
+        return tmp;
+    }
+
     public static void main(String[] args) {
         int[] nums = {5, 2, 4, 1, 3};
 
         insertionSort(nums);
 
         System.out.println(Arrays.toString(nums));
+
+        int[] nearly = new int[100];
+        for (int i = 0; i < nearly.length; i++) nearly[i] = i;
+        nearly[10] = 95;
+        nearly[90] = 3;
+        adaptiveSort(nearly);
+        System.out.println(Arrays.toString(nearly));
     }
 }
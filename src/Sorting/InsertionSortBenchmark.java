@@ -0,0 +1,109 @@
+package Sorting;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ InsertionSort variants on nearly-sorted input with a controlled number of inversions
+
+ ➤ Inputs (n ints, start sorted):
+    - local k  : k random adjacent swaps            -> at most k inversions, all short-range
+    - far k    : k random elements moved far away   -> few displaced elements, long shifts
+    - runs r   : r sorted runs concatenated         -> many inversions, but only r natural runs
+ ➤ The exact inversion count is printed for each input (merge-sort count).
+ ➤ Sorts: insertionSort (linear scan, one-slot shifts), binaryInsertionSort, adaptiveSort, Arrays.sort.
+   insertionSort and binaryInsertionSort are skipped once inversions exceed 50 * n: both shift one
+   element per inversion (binary search only saves comparisons), so they would take minutes.
+
+ ➤ Usage:
+    java Sorting.InsertionSortBenchmark [n]   (default 1_000_000)
+*/
+
+public class InsertionSortBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(25);
+
+        System.out.printf("%-12s %14s %12s %12s %12s %12s%n", "input", "inversions", "insertion", "binary", "adaptive", "Arrays");
+        for (int k : new int[]{0, n / 1000, n / 100, n / 10}) {
+            int[] a = sorted(n);
+            for (int s = 0; s < k; s++) {
+                int i = random.nextInt(n - 1);
+                swap(a, i, i + 1);
+            }
+            run("local " + k, a);
+        }
+        for (int k : new int[]{10, 100, 1000}) {
+            int[] a = sorted(n);
+            for (int s = 0; s < k; s++) swap(a, random.nextInt(n), random.nextInt(n));
+            run("far " + k, a);
+        }
+        for (int r : new int[]{4, 64}) {
+            int[] a = new int[n];
+            for (int i = 0; i < n; i++) a[i] = (i % (n / r)) * r + i / (n / r); // r interleaved ascending runs
+            run("runs " + r, a);
+        }
+    }
+
+    private static void run(String name, int[] input) {
+        long inversions = countInversions(input.clone(), new int[input.length], 0, input.length);
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        boolean quadratic = inversions > 50L * input.length;
+        String insertion = quadratic ? "-" : time(input, expected, 0);
+        String binary = quadratic ? "-" : time(input, expected, 1);
+        System.out.printf("%-12s %14d %12s %12s %12s %12s%n", name, inversions, insertion,
+                binary, time(input, expected, 2), time(input, expected, 3));
+    }
+
+    // best of 3, in ms
+    private static String time(int[] input, int[] expected, int which) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 3; r++) {
+            int[] a = input.clone();
+            long start = System.nanoTime();
+            switch (which) {
+                case 0 -> InsertionSort.insertionSort(a);
+                case 1 -> InsertionSort.binaryInsertionSort(a, 0, 0, a.length);
+                case 2 -> InsertionSort.adaptiveSort(a);
+                default -> Arrays.sort(a);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            if (!Arrays.equals(a, expected)) throw new IllegalStateException("wrong result");
+        }
+        return String.format("%.1f", best / 1e6);
+    }
+
+    private static long countInversions(int[] a, int[] buf, int lo, int hi) {
+        if (hi - lo < 2) return 0;
+        int mid = (lo + hi) >>> 1;
+        long count = countInversions(a, buf, lo, mid) + countInversions(a, buf, mid, hi);
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi) {
+            if (a[j] < a[i]) {
+                count += mid - i;
+                buf[k++] = a[j++];
+            } else {
+                buf[k++] = a[i++];
+            }
+        }
+        while (i < mid) buf[k++] = a[i++];
+        while (j < hi) buf[k++] = a[j++];
+        System.arraycopy(buf, lo, a, lo, hi - lo);
+        return count;
+    }
+
+    private static int[] sorted(int n) {
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) a[i] = i;
+        return a;
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
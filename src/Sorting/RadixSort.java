@@ -0,0 +1,388 @@
+package Sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/*
+Radix Sort Theory:
+-------------------
+- Counting sort is linear but needs a count array as big as the value range.
+- Radix sort runs counting sort once per DIGIT instead (a digit = 8 or 11 bits)
+  -> count array of 256 / 2048 entries, no matter how wide the keys are.
+
+LSD (least significant digit first) for int / long:
+- Stable counting pass per digit, lowest digit first; after the last pass the keys are fully sorted.
+- Sign: flip the top bit (key ^ MIN_VALUE) -> negative numbers come before positive ones as unsigned values.
+- Ping-pong: pass 1 writes arr -> buf, pass 2 buf -> arr, ... (no copy back per pass).
+- All digit histograms are built in ONE read of the input; a digit that is equal for every key
+  (e.g. the top byte of small numbers) is skipped entirely.
+- int : 4 passes of 8 bits, or 3 passes of 11 bits (fewer passes, 2048 counters still fit in L1)
+- long: 8 passes of 8 bits, or 6 passes of 11 bits
+
+MSD (most significant digit first) for String[]:
+- Distribute on the first digit, then recurse into every bucket on the next digit.
+- A char is 16 bits -> two 8-bit digits (high byte, then low byte); "string ended" is its own bucket 0,
+  so "ab" sorts before "abc" (same order as String.compareTo).
+- Small buckets (< 32 strings) are finished by insertion sort; a bucket that holds everything
+  (long common prefix) just moves on to the next digit without copying.
+
+Parallel mode:
+- int / long: one MSD pass on the top 8 bits (per-chunk histograms, chunks scatter in parallel),
+  then every one of the 256 buckets is LSD-sorted on the remaining bits as its own ForkJoin task.
+- String: every bucket above a size threshold becomes its own ForkJoin task.
+
+Time Complexity: O(n * passes) for int/long, O(total chars examined) for String
+Space: O(n) buffer
+*/
+
+public class RadixSort {
+
+    private static final int LARGE = 1 << 16;            // from here 11-bit digits pay off
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int STRING_CUTOFF = 32;
+    private static final int PARALLEL_STRING_THRESHOLD = 1 << 14;
+
+    // ---------- int ----------
+
+    public static void sort(int[] arr) {
+        sort(arr, arr.length >= LARGE ? 11 : 8);
+    }
+
+    public static void sort(int[] arr, int digitBits) {
+        checkDigitBits(digitBits);
+        if (arr.length < 2) return;
+        int[] buf = new int[arr.length];
+        if (lsd(arr, buf, 0, arr.length, 32, digitBits) != arr) System.arraycopy(buf, 0, arr, 0, arr.length);
+    }
+
+    // Sort arr[from, to) using buf[from, to) as scratch -> callers sorting many batches reuse one buffer
+    public static void sort(int[] arr, int from, int to, int[] buf) {
+        if (to - from < 2) return;
+        if (buf.length < to) throw new IllegalArgumentException("buffer shorter than range end " + to);
+        if (lsd(arr, buf, from, to, 32, to - from >= LARGE ? 11 : 8) != arr) System.arraycopy(buf, from, arr, from, to - from);
+    }
+
+    // LSD on the low `bits` bits of (key ^ MIN_VALUE) over [from, to); returns the array holding the result
+    private static int[] lsd(int[] src, int[] dst, int from, int to, int bits, int digitBits) {
+        int radix = 1 << digitBits, mask = radix - 1;
+        int passes = (bits + digitBits - 1) / digitBits;
+        int[][] count = new int[passes][radix + 1];
+        for (int i = from; i < to; i++) {
+            int key = src[i] ^ Integer.MIN_VALUE;
+            for (int p = 0; p < passes; p++) count[p][(key >>> (p * digitBits) & mask) + 1]++;
+        }
+
+        int n = to - from;
+        for (int p = 0; p < passes; p++) {
+            int shift = p * digitBits;
+            int[] c = count[p];
+            if (c[((src[from] ^ Integer.MIN_VALUE) >>> shift & mask) + 1] == n) continue; // same digit everywhere
+
+            c[0] = from;
+            for (int d = 0; d < radix; d++) c[d + 1] += c[d];
+            for (int i = from; i < to; i++) {
+                int v = src[i];
+                dst[c[(v ^ Integer.MIN_VALUE) >>> shift & mask]++] = v;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        return src;
+    }
+
+    public static void parallelSort(int[] arr) {
+        parallelSort(arr, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(int[] arr, ForkJoinPool pool) {
+        int n = arr.length;
+        if (n < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            sort(arr);
+            return;
+        }
+        int[] buf = new int[n];
+        int chunks = 4 * pool.getParallelism();
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        // MSD step on the top byte: histogram per chunk
+        int[][] count = new int[chunks][256];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int[] h = count[c];
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) h[topByte(arr[i])]++;
+        }));
+
+        // bucket b of chunk c starts after all smaller buckets and after bucket b of earlier chunks
+        int[] bucketStart = new int[257];
+        int pos = 0;
+        for (int b = 0; b < 256; b++) {
+            bucketStart[b] = pos;
+            for (int c = 0; c < chunks; c++) {
+                int k = count[c][b];
+                count[c][b] = pos;
+                pos += k;
+            }
+        }
+        bucketStart[256] = n;
+
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int[] next = count[c];
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) buf[next[topByte(arr[i])]++] = arr[i];
+        }));
+
+        // every bucket: LSD on the low 24 bits, result back in arr
+        pool.invoke(new ChunkTask(0, 256, b -> {
+            int from = bucketStart[b], to = bucketStart[b + 1];
+            if (to - from == 0) return;
+            if (lsd(buf, arr, from, to, 24, 8) != arr) System.arraycopy(buf, from, arr, from, to - from);
+        }));
+    }
+
+    private static int topByte(int v) {
+        return (v ^ Integer.MIN_VALUE) >>> 24;
+    }
+
+    // ---------- long ----------
+
+    public static void sort(long[] arr) {
+        sort(arr, arr.length >= LARGE ? 11 : 8);
+    }
+
+    public static void sort(long[] arr, int digitBits) {
+        checkDigitBits(digitBits);
+        if (arr.length < 2) return;
+        long[] buf = new long[arr.length];
+        if (lsd(arr, buf, 0, arr.length, 64, digitBits) != arr) System.arraycopy(buf, 0, arr, 0, arr.length);
+    }
+
+    private static long[] lsd(long[] src, long[] dst, int from, int to, int bits, int digitBits) {
+        int radix = 1 << digitBits, mask = radix - 1;
+        int passes = (bits + digitBits - 1) / digitBits;
+        int[][] count = new int[passes][radix + 1];
+        for (int i = from; i < to; i++) {
+            long key = src[i] ^ Long.MIN_VALUE;
+            for (int p = 0; p < passes; p++) count[p][((int) (key >>> (p * digitBits)) & mask) + 1]++;
+        }
+
+        int n = to - from;
+        for (int p = 0; p < passes; p++) {
+            int shift = p * digitBits;
+            int[] c = count[p];
+            if (c[((int) ((src[from] ^ Long.MIN_VALUE) >>> shift) & mask) + 1] == n) continue;
+
+            c[0] = from;
+            for (int d = 0; d < radix; d++) c[d + 1] += c[d];
+            for (int i = from; i < to; i++) {
+                long v = src[i];
+                dst[c[(int) ((v ^ Long.MIN_VALUE) >>> shift) & mask]++] = v;
+            }
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        return src;
+    }
+
+    public static void parallelSort(long[] arr) {
+        parallelSort(arr, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(long[] arr, ForkJoinPool pool) {
+        int n = arr.length;
+        if (n < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            sort(arr);
+            return;
+        }
+        long[] buf = new long[n];
+        int chunks = 4 * pool.getParallelism();
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        int[][] count = new int[chunks][256];
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int[] h = count[c];
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) h[topByte(arr[i])]++;
+        }));
+
+        int[] bucketStart = new int[257];
+        int pos = 0;
+        for (int b = 0; b < 256; b++) {
+            bucketStart[b] = pos;
+            for (int c = 0; c < chunks; c++) {
+                int k = count[c][b];
+                count[c][b] = pos;
+                pos += k;
+            }
+        }
+        bucketStart[256] = n;
+
+        pool.invoke(new ChunkTask(0, chunks, c -> {
+            int[] next = count[c];
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) buf[next[topByte(arr[i])]++] = arr[i];
+        }));
+
+        pool.invoke(new ChunkTask(0, 256, b -> {
+            int from = bucketStart[b], to = bucketStart[b + 1];
+            if (to - from == 0) return;
+            if (lsd(buf, arr, from, to, 56, 8) != arr) System.arraycopy(buf, from, arr, from, to - from);
+        }));
+    }
+
+    private static int topByte(long v) {
+        return (int) ((v ^ Long.MIN_VALUE) >>> 56);
+    }
+
+    // runs body for every index in [lo, hi), halving the range across ForkJoin workers
+    static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int lo, hi;
+        final IntConsumer body;
+
+        ChunkTask(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                body.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(lo, mid, body), new ChunkTask(mid, hi, body));
+        }
+    }
+
+    private static void checkDigitBits(int digitBits) {
+        if (digitBits != 8 && digitBits != 11) throw new IllegalArgumentException("digitBits must be 8 or 11");
+    }
+
+    // ---------- String (MSD) ----------
+
+    public static void sort(String[] arr) {
+        if (arr.length < 2) return;
+        msd(arr, new String[arr.length], 0, arr.length, 0, null);
+    }
+
+    public static void parallelSort(String[] arr) {
+        parallelSort(arr, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(String[] arr, ForkJoinPool pool) {
+        if (arr.length < 2) return;
+        pool.invoke(new MsdTask(arr, new String[arr.length], 0, arr.length, 0));
+    }
+
+    // digit d of s: 0 = string ended, else 1 + (high byte of char d/2 for even d, low byte for odd d)
+    private static int digit(String s, int d) {
+        int i = d >> 1;
+        if (i >= s.length()) return 0;
+        char c = s.charAt(i);
+        return ((d & 1) == 0 ? c >>> 8 : c & 0xFF) + 1;
+    }
+
+    /*
+     Sort arr[lo, hi) whose strings share their first d digits.
+     forks == null -> recurse sequentially; otherwise large buckets are added to forks as tasks.
+    */
+    private static void msd(String[] arr, String[] aux, int lo, int hi, int d, List<MsdTask> forks) {
+        while (true) {
+            if (hi - lo <= STRING_CUTOFF) {
+                insertionSort(arr, lo, hi);
+                return;
+            }
+            int[] count = new int[259];
+            for (int i = lo; i < hi; i++) count[digit(arr[i], d) + 2]++;
+
+            // everything in one bucket -> nothing to move, look at the next digit
+            int single = -1;
+            for (int r = 0; r < 257; r++) {
+                if (count[r + 2] == hi - lo) single = r;
+            }
+            if (single == 0) return; // all strings ended: they are equal
+            if (single > 0) {
+                d++;
+                continue;
+            }
+
+            for (int r = 0; r < 257; r++) count[r + 1] += count[r];
+            for (int i = lo; i < hi; i++) aux[lo + count[digit(arr[i], d) + 1]++] = arr[i];
+            System.arraycopy(aux, lo, arr, lo, hi - lo);
+
+            // count[r] is now the start of bucket r; bucket 0 (ended strings) is already final.
+            // The largest bucket is handled by this loop instead of a call -> stack depth O(log n).
+            int big = 1;
+            for (int r = 2; r < 257; r++) {
+                if (count[r + 1] - count[r] > count[big + 1] - count[big]) big = r;
+            }
+            for (int r = 1; r < 257; r++) {
+                int from = lo + count[r], to = lo + count[r + 1];
+                if (r == big || to - from < 2) continue;
+                if (forks != null && to - from >= PARALLEL_STRING_THRESHOLD) forks.add(new MsdTask(arr, aux, from, to, d + 1));
+                else msd(arr, aux, from, to, d + 1, null);
+            }
+            int from = lo + count[big], to = lo + count[big + 1];
+            if (forks != null && to - from >= PARALLEL_STRING_THRESHOLD) {
+                forks.add(new MsdTask(arr, aux, from, to, d + 1));
+                return;
+            }
+            lo = from;
+            hi = to;
+            d++;
+        }
+    }
+
+    private static void insertionSort(String[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            String key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j].compareTo(key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    static class MsdTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final String[] arr, aux;
+        final int lo, hi, d;
+
+        MsdTask(String[] arr, String[] aux, int lo, int hi, int d) {
+            this.arr = arr;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.d = d;
+        }
+
+        @Override
+        protected void compute() {
+            List<MsdTask> forks = new ArrayList<>();
+            msd(arr, aux, lo, hi, d, forks); // buckets never overlap, so children can share arr / aux
+            invokeAll(forks);
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] nums = {170, -45, 75, -90, 802, 24, 2, 66, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        sort(nums);
+        System.out.println(Arrays.toString(nums));
+
+        long[] longs = {5_000_000_000L, -1L, 42L, Long.MIN_VALUE, 0L};
+        sort(longs, 11);
+        System.out.println(Arrays.toString(longs));
+
+        String[] words = {"she", "sells", "seashells", "by", "the", "sea", "shore", "", "séa"};
+        sort(words);
+        System.out.println(Arrays.toString(words)); // same order as Arrays.sort
+    }
+}
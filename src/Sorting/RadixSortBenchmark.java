@@ -0,0 +1,104 @@
+package Sorting;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ RadixSort vs Arrays.sort / Arrays.parallelSort
+
+ ➤ Inputs: n random full-range ints, n random full-range longs, n / 10 random Strings (4..20 chars, a..z)
+ ➤ Sorts: RadixSort.sort (8-bit and 11-bit digits for int/long), RadixSort.parallelSort,
+   Arrays.sort, Arrays.parallelSort
+ ➤ Each cell: best of 3 on a fresh copy; every result is checked against Arrays.sort.
+ ➤ For 10^8 .. 10^9 elements give the JVM room for input + copy + buffer (~3 * n * 8 bytes for long):
+    java -Xmx24g Sorting.RadixSortBenchmark 1000000000
+
+ ➤ Usage:
+    java -Xmx4g Sorting.RadixSortBenchmark [n]   (default 10_000_000)
+*/
+
+public class RadixSortBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(23);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        int[] ints = random.ints(n).toArray();
+        int[] intsSorted = ints.clone();
+        Arrays.sort(intsSorted);
+        System.out.printf("int[%d]%n", n);
+        report("radix 8-bit", () -> check(ints, intsSorted, a -> RadixSort.sort(a, 8)));
+        report("radix 11-bit", () -> check(ints, intsSorted, a -> RadixSort.sort(a, 11)));
+        report("radix parallel", () -> check(ints, intsSorted, a -> RadixSort.parallelSort(a, pool)));
+        report("Arrays.sort", () -> check(ints, intsSorted, Arrays::sort));
+        report("Arrays.parallelSort", () -> check(ints, intsSorted, Arrays::parallelSort));
+
+        long[] longs = random.longs(n).toArray();
+        long[] longsSorted = longs.clone();
+        Arrays.sort(longsSorted);
+        System.out.printf("long[%d]%n", n);
+        report("radix 8-bit", () -> check(longs, longsSorted, a -> RadixSort.sort(a, 8)));
+        report("radix 11-bit", () -> check(longs, longsSorted, a -> RadixSort.sort(a, 11)));
+        report("radix parallel", () -> check(longs, longsSorted, a -> RadixSort.parallelSort(a, pool)));
+        report("Arrays.sort", () -> check(longs, longsSorted, Arrays::sort));
+        report("Arrays.parallelSort", () -> check(longs, longsSorted, Arrays::parallelSort));
+
+        String[] words = new String[n / 10];
+        for (int i = 0; i < words.length; i++) {
+            char[] w = new char[4 + random.nextInt(17)];
+            for (int j = 0; j < w.length; j++) w[j] = (char) ('a' + random.nextInt(26));
+            words[i] = new String(w);
+        }
+        String[] wordsSorted = words.clone();
+        Arrays.sort(wordsSorted);
+        System.out.printf("String[%d]%n", words.length);
+        report("radix msd", () -> check(words, wordsSorted, RadixSort::sort));
+        report("radix msd parallel", () -> check(words, wordsSorted, a -> RadixSort.parallelSort(a, pool)));
+        report("Arrays.sort", () -> check(words, wordsSorted, Arrays::sort));
+        report("Arrays.parallelSort", () -> check(words, wordsSorted, Arrays::parallelSort));
+    }
+
+    interface Sorter<A> {
+        void sort(A arr);
+    }
+
+    interface Run {
+        long nanos();
+    }
+
+    private static long check(int[] input, int[] expected, Sorter<int[]> sorter) {
+        int[] a = input.clone();
+        long start = System.nanoTime();
+        sorter.sort(a);
+        long t = System.nanoTime() - start;
+        if (!Arrays.equals(a, expected)) throw new IllegalStateException("wrong int result");
+        return t;
+    }
+
+    private static long check(long[] input, long[] expected, Sorter<long[]> sorter) {
+        long[] a = input.clone();
+        long start = System.nanoTime();
+        sorter.sort(a);
+        long t = System.nanoTime() - start;
+        if (!Arrays.equals(a, expected)) throw new IllegalStateException("wrong long result");
+        return t;
+    }
+
+    private static long check(String[] input, String[] expected, Sorter<String[]> sorter) {
+        String[] a = input.clone();
+        long start = System.nanoTime();
+        sorter.sort(a);
+        long t = System.nanoTime() - start;
+        if (!Arrays.equals(a, expected)) throw new IllegalStateException("wrong String result");
+        return t;
+    }
+
+    // best of 3
+    private static void report(String label, Run run) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 3; r++) best = Math.min(best, run.nanos());
+        System.out.printf("  %-20s %10.1f ms%n", label, best / 1e6);
+    }
+}
@@ -0,0 +1,77 @@
+package Stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/*
+ Growable stack of primitive chars
+
+ ➤ Why not java.util.Stack<Character>?
+    - java.util.Stack extends Vector -> every push/pop/peek is a synchronized call.
+    - Every value is boxed into a Character (outside the 0..127 cache) -> one allocation per push.
+    - CharStack is a plain char[] + top index: no locks, no boxing, no allocation except when it grows.
+
+ ➤ Same method names as java.util.Stack so algorithms port over line by line.
+    pop()/peek() on an empty stack throw EmptyStackException, just like java.util.Stack.
+
+ ➤ Not thread-safe.
+*/
+
+public class CharStack {
+
+    private char[] data;
+    private int size;
+
+    public CharStack() {
+        this(16);
+    }
+
+    public CharStack(int capacity) {
+        data = new char[Math.max(1, capacity)];
+    }
+
+    public void push(char val) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        data[size++] = val;
+    }
+
+    public char pop() {
+        if (size == 0) throw new EmptyStackException();
+        return data[--size];
+    }
+
+    public char peek() {
+        if (size == 0) throw new EmptyStackException();
+        return data[size - 1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // i-th element from the bottom, like java.util.Stack.get(i)
+    public char get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        return data[i];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Contents bottom to top as a String, handy for stack-built answers
+    public String contentString() {
+        return new String(data, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(data, size));
+    }
+}
@@ -1,11 +1,12 @@
 package Stack.Evaluation;
 
-import java.util.Stack;
+import Stack.CharStack;
+import Stack.IntStack;
 
 public class Infix {
     public static int evaluation(String s) {
-        Stack<Integer> operand = new Stack<>();
-        Stack<Character> operator = new Stack<>();
+        IntStack operand = new IntStack();
+        CharStack operator = new CharStack();
 
         for (char c : s.toCharArray()) {
             if (c == ' ') {
@@ -1,11 +1,11 @@
 package Stack.Evaluation;
 
-import java.util.Stack;
+import Stack.IntStack;
 
 public class postfix {
 
     public static int evaluation(String s) {
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         for (char c : s.toCharArray()) {
             if(c==' '){
                 continue;
@@ -1,12 +1,12 @@
 package Stack.Expressions;
 
-import java.util.Stack;
+import Stack.CharStack;
 
 public class InfixToPostfix {
     public static String conversion(String exp) {
 
         StringBuilder sb = new StringBuilder();
-        Stack<Character> stack = new Stack<>();
+        CharStack stack = new CharStack();
 
         for (int i = 0; i < exp.length(); i++) {
             char c = exp.charAt(i);
@@ -0,0 +1,72 @@
+package Stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/*
+ Growable stack of primitive ints
+
+ ➤ Why not java.util.Stack<Integer>?
+    - java.util.Stack extends Vector -> every push/pop/peek is a synchronized call.
+    - Every value is boxed into an Integer (outside the small -128..127 cache) -> one allocation per push.
+    - IntStack is a plain int[] + top index: no locks, no boxing, no allocation except when it grows.
+
+ ➤ Same method names as java.util.Stack so algorithms port over line by line.
+    pop()/peek() on an empty stack throw EmptyStackException, just like java.util.Stack.
+
+ ➤ Not thread-safe.
+*/
+
+public class IntStack {
+
+    private int[] data;
+    private int size;
+
+    public IntStack() {
+        this(16);
+    }
+
+    public IntStack(int capacity) {
+        data = new int[Math.max(1, capacity)];
+    }
+
+    public void push(int val) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        data[size++] = val;
+    }
+
+    public int pop() {
+        if (size == 0) throw new EmptyStackException();
+        return data[--size];
+    }
+
+    public int peek() {
+        if (size == 0) throw new EmptyStackException();
+        return data[size - 1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // i-th element from the bottom, like java.util.Stack.get(i)
+    public int get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        return data[i];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(data, size));
+    }
+}
@@ -0,0 +1,67 @@
+package Stack;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/*
+ java.util.Stack<Integer> vs IntStack on a monotonic-stack pass (next greater element)
+
+ ➤ The boxed baseline below is the pre-IntStack NextGreaterElement.nextgreater, kept here verbatim
+   so the comparison stays honest after the port.
+ ➤ Reports time per pass and bytes allocated per pass (HotSpot per-thread allocation counter).
+   No JMH in this project -> plain warm-up + best-of-N nanoTime runs.
+
+ ➤ Usage:
+    java Stack.IntStackBenchmark [n]   (default 10_000_000)
+*/
+
+public class IntStackBenchmark {
+
+    static long sink;
+
+    static int[] nextGreaterBoxed(int[] nums) {
+        java.util.Stack<Integer> stack = new java.util.Stack<>();
+        int[] ans = new int[nums.length];
+        for (int i = nums.length - 1; i >= 0; i--) {
+            int num = nums[i];
+            while (!stack.isEmpty() && stack.peek() <= num) {
+                stack.pop();
+            }
+            ans[i] = stack.isEmpty() ? -1 : stack.peek();
+            stack.push(num);
+        }
+        return ans;
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int[] nums = new Random(42).ints(n, 0, 1_000_000).toArray();
+
+        for (int i = 0; i < 5; i++) {
+            sink += nextGreaterBoxed(nums)[0];
+            sink += NextGreaterElement.nextgreater(nums)[0];
+        }
+
+        System.out.printf("%-22s %12s %16s%n", "impl", "best(ms)", "alloc(bytes)");
+        report("java.util.Stack", nums, true);
+        report("IntStack", nums, false);
+        System.out.println("sink = " + sink);
+    }
+
+    private static void report(String name, int[] nums, boolean boxed) {
+        long best = Long.MAX_VALUE, alloc = 0;
+        for (int r = 0; r < 5; r++) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            int[] ans = boxed ? nextGreaterBoxed(nums) : NextGreaterElement.nextgreater(nums);
+            best = Math.min(best, System.nanoTime() - start);
+            alloc = allocatedBytes() - bytes;
+            sink += ans[ans.length - 1];
+        }
+        System.out.printf("%-22s %12.2f %16d%n", name, best / 1e6, alloc);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -1,7 +1,5 @@
 package Stack;
 
-import Stack.NextGreaterElement;
-
 public class MaxAreaInHistogram {
 
     public static int largestArea(int[] nums) {
@@ -34,19 +32,59 @@ public class MaxAreaInHistogram {
         return ans;
     }
 
-    public static int optimizedLargestArea(int[] nums) {
-        int[] nums1 = NextGreaterElement.nextSmallerElementIndex(nums);
-        int[] nums2 = NextGreaterElement.nextSmallerElementIndexRev(nums);
-        int ans = 0;
-
-        for (int i = 0; i < nums.length; i++) {
-            int curr = nums[i] * (nums1[i] - nums2[i] - 1);
-            System.out.println(curr);
-            ans = Math.max(ans, curr);
+    /*
+     Single-pass monotonic stack: O(n) time, O(n) space
+
+     ➤ Stack holds indices of bars with increasing heights.
+     ➤ When bar i is lower than the bar on top, that top bar can't extend right any further:
+        - its right boundary is i (first smaller on the right)
+        - its left boundary is the new top after popping (first smaller on the left)
+        -> both "next smaller" arrays fall out of the same pass, no separate scans needed.
+     ➤ A virtual bar of height 0 at i == n flushes whatever is left on the stack.
+     ➤ Area is a long: millions of tall bars overflow int.
+    */
+    public static long optimizedLargestArea(int[] nums) {
+        return largestArea(nums, nums.length, new IntStack(Math.min(nums.length + 1, 1 << 16)));
+    }
 
+    // Shared core, reuses the caller's stack so row-by-row callers don't allocate
+    static long largestArea(int[] heights, int n, IntStack stack) {
+        stack.clear();
+        long ans = 0;
+
+        for (int i = 0; i <= n; i++) {
+            int curr = i == n ? 0 : heights[i];
+            while (!stack.isEmpty() && heights[stack.peek()] >= curr) {
+                int h = heights[stack.pop()];
+                int left = stack.isEmpty() ? -1 : stack.peek();
+                ans = Math.max(ans, (long) h * (i - left - 1));
+            }
+            stack.push(i);
         }
         return ans;
+    }
 
+    /*
+     Maximal rectangle of 1s in a binary matrix (LeetCode 85)
+
+     ➤ Treat every row as the base of a histogram: heights[j] = number of consecutive 1s ending at row i.
+     ➤ heights is updated in place row by row (reset to 0 on a 0, +1 on a 1), then the histogram solver runs.
+     ➤ Time: O(rows * cols), Space: O(cols) -> one heights array and one stack reused for all rows.
+    */
+    public static long maximalRectangle(int[][] matrix) {
+        if (matrix.length == 0) return 0;
+        int cols = matrix[0].length;
+        int[] heights = new int[cols];
+        IntStack stack = new IntStack(cols + 1);
+        long ans = 0;
+
+        for (int[] row : matrix) {
+            for (int j = 0; j < cols; j++) {
+                heights[j] = row[j] == 0 ? 0 : heights[j] + 1;
+            }
+            ans = Math.max(ans, largestArea(heights, cols, stack));
+        }
+        return ans;
     }
 
     public static void main(String[] args) {
@@ -54,6 +92,14 @@ public class MaxAreaInHistogram {
         System.out.println(largestArea(nums));
         System.out.println(optimizedLargestArea(nums));
 
+        int[][] matrix = {
+                {1, 0, 1, 0, 0},
+                {1, 0, 1, 1, 1},
+                {1, 1, 1, 1, 1},
+                {1, 0, 0, 1, 0}
+        };
+        System.out.println(maximalRectangle(matrix)); // 6
+
 
     }
 }
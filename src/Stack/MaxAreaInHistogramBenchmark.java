@@ -0,0 +1,45 @@
+package Stack;
+
+import java.util.Random;
+
+/*
+ Scaling check for MaxAreaInHistogram.optimizedLargestArea
+
+ ➤ n = 10^4 .. 10^maxExp random bars; ns/bar should stay flat if the solver is linear.
+ ➤ The quadratic largestArea is timed too while n <= 10^5 as a reference point.
+
+ ➤ Usage:
+    java -Xmx4g Stack.MaxAreaInHistogramBenchmark [maxExp]   (default 8 -> 10^8 bars)
+*/
+
+public class MaxAreaInHistogramBenchmark {
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int maxExp = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        Random random = new Random(7);
+
+        int[] warm = random.ints(100_000, 0, 1_000_000).toArray();
+        for (int i = 0; i < 10; i++) sink += MaxAreaInHistogram.optimizedLargestArea(warm);
+
+        System.out.printf("%12s %12s %10s %16s%n", "n", "stack(ms)", "ns/bar", "quadratic(ms)");
+        for (int exp = 4; exp <= maxExp; exp++) {
+            int n = (int) Math.pow(10, exp);
+            int[] bars = random.ints(n, 0, 1_000_000).toArray();
+
+            long start = System.nanoTime();
+            sink += MaxAreaInHistogram.optimizedLargestArea(bars);
+            long linear = System.nanoTime() - start;
+
+            String quadratic = "-";
+            if (exp <= 5) {
+                start = System.nanoTime();
+                sink += MaxAreaInHistogram.largestArea(bars);
+                quadratic = String.format("%.2f", (System.nanoTime() - start) / 1e6);
+            }
+            System.out.printf("%12d %12.2f %10.2f %16s%n", n, linear / 1e6, (double) linear / n, quadratic);
+        }
+        System.out.println("sink = " + sink);
+    }
+}
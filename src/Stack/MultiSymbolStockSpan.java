@@ -0,0 +1,114 @@
+package Stack;
+
+/*
+ Stock span for many tickers at once
+
+ ➤ One OnlineStockSpan per ticker, looked up in an open-addressing hash map:
+    - keys   : long[]  (ticker packed into a long, 0 = empty slot)
+    - values : OnlineStockSpan[]
+    - linear probing, capacity is a power of two, table doubles at 50% load
+ ➤ No HashMap<String, ...> -> no boxing, no entry objects, no String hashing per tick.
+ ➤ Tickers of up to 8 ASCII characters (1..127, no NUL) are packed with encode(), e.g. encode("AAPL").
+   Every such ticker maps to a distinct non-zero key; a raw symbol of 0 is rejected.
+
+ ➤ next(symbol, price): O(1) expected lookup + amortized O(1) span update
+*/
+
+public class MultiSymbolStockSpan {
+
+    private long[] keys;
+    private OnlineStockSpan[] values;
+    private int mask;
+    private int count;
+
+    public MultiSymbolStockSpan() {
+        this(64);
+    }
+
+    public MultiSymbolStockSpan(int expectedSymbols) {
+        int cap = Integer.highestOneBit(Math.max(4, expectedSymbols * 2 - 1)) << 1;
+        keys = new long[cap];
+        values = new OnlineStockSpan[cap];
+        mask = cap - 1;
+    }
+
+    // Pack up to 8 ASCII characters into a non-zero long key
+    public static long encode(String ticker) {
+        if (ticker.isEmpty() || ticker.length() > 8) {
+            throw new IllegalArgumentException("ticker must be 1..8 ASCII characters: " + ticker);
+        }
+        long key = 0;
+        for (int i = 0; i < ticker.length(); i++) {
+            char c = ticker.charAt(i);
+            if (c == 0 || c > 127) {
+                throw new IllegalArgumentException("ticker must be 1..8 ASCII characters: " + ticker);
+            }
+            key = (key << 8) | c;
+        }
+        return key;
+    }
+
+    public int next(long symbol, int price) {
+        if (symbol == 0) throw new IllegalArgumentException("symbol 0 marks an empty slot");
+        return stateFor(symbol).next(price);
+    }
+
+    public int next(String ticker, int price) {
+        return next(encode(ticker), price);
+    }
+
+    public int symbols() {
+        return count;
+    }
+
+    private OnlineStockSpan stateFor(long symbol) {
+        int idx = slot(symbol);
+        while (keys[idx] != 0) {
+            if (keys[idx] == symbol) return values[idx];
+            idx = (idx + 1) & mask;
+        }
+
+        if ((count + 1) * 2 > keys.length) {
+            grow();
+            idx = slot(symbol);
+            while (keys[idx] != 0) idx = (idx + 1) & mask;
+        }
+        OnlineStockSpan state = new OnlineStockSpan(8);
+        keys[idx] = symbol;
+        values[idx] = state;
+        count++;
+        return state;
+    }
+
+    private int slot(long symbol) {
+        long h = symbol * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads packed ASCII keys
+        return (int) (h >>> 32) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        OnlineStockSpan[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new OnlineStockSpan[keys.length];
+        mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int idx = slot(oldKeys[i]);
+            while (keys[idx] != 0) idx = (idx + 1) & mask;
+            keys[idx] = oldKeys[i];
+            values[idx] = oldValues[i];
+        }
+    }
+
+    public static void main(String[] args) {
+        MultiSymbolStockSpan book = new MultiSymbolStockSpan(2);
+        String[] tickers = {"AAPL", "MSFT", "AAPL", "MSFT", "AAPL", "GOOG", "AAPL"};
+        int[] prices = {100, 300, 80, 310, 90, 150, 120};
+
+        for (int i = 0; i < tickers.length; i++) {
+            System.out.println(tickers[i] + " " + prices[i] + " -> span " + book.next(tickers[i], prices[i]));
+        }
+        System.out.println("symbols tracked: " + book.symbols());
+    }
+}
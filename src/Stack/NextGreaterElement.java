@@ -2,7 +2,6 @@ package Stack;
 
 
 import java.util.Arrays;
-import java.util.*;
 
 
 public class NextGreaterElement {
@@ -54,7 +53,7 @@ public class NextGreaterElement {
     public static int[] nextgreater(int[] nums) {
 
 
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         int[]ans=new int[nums.length];
 
         for (int i = nums.length - 1; i >= 0; i--) {
@@ -76,7 +75,7 @@ public class NextGreaterElement {
     public static int[] nextgreaterReverse(int[] nums) {
 
 
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         int[]ans=new int[nums.length];
 
         for (int i = 0;i<nums.length;i++) {
@@ -1,13 +1,12 @@
 package Stack;
 
 import java.util.Arrays;
-import java.util.Stack;
 
 public class NextSmaller {
 
     public static int[] nextSmaller(int[] nums) {
-        Stack<Integer> stack = new Stack<>();
-        int[] ans = new int[6];
+        IntStack stack = new IntStack();
+        int[] ans = new int[nums.length];
         for (int i = nums.length - 1; i >= 0; i--) {
             while (!stack.isEmpty() && stack.peek() >= nums[i]) {
                 stack.pop();
@@ -22,8 +21,8 @@ public class NextSmaller {
     }
 
     public static int[] nextSmallerRev(int[] nums) {
-        Stack<Integer> stack = new Stack<>();
-        int[] ans = new int[6];
+        IntStack stack = new IntStack();
+        int[] ans = new int[nums.length];
         for (int i = 0;i<nums.length;i++) {
             while (!stack.isEmpty() && stack.peek() >= nums[i]) {
                 stack.pop();
@@ -2,15 +2,55 @@ package Stack;
 
 import java.util.Arrays;
 
+/*
+ Online Stock Span (LeetCode 901)
+
+ ➤ Span of today's price = number of consecutive days (ending today) with price <= today's price.
+
+ ➤ Brute force: walk back from every day until a higher price -> O(n^2) for n prices.
+
+ ➤ Streaming version with a monotonic stack:
+    - Stack keeps (price, span) pairs with strictly decreasing prices.
+    - On next(price): pop every pair with price <= today and add its span to today's span
+      (those days are all covered by today), then push (price, span).
+    - Every price is pushed once and popped at most once -> amortized O(1) per tick.
+    - Prices and spans live in two IntStacks, so a tick never allocates once the stacks have grown.
+*/
+
 public class OnlineStockSpan {
 
+    private final IntStack prices;
+    private final IntStack spans;
 
-    public static void main(String[] args) {
-        int[] prices = {100, 80, 60, 70, 60, 75, 85};
+    public OnlineStockSpan() {
+        this(16);
+    }
+
+    public OnlineStockSpan(int capacity) {
+        prices = new IntStack(capacity);
+        spans = new IntStack(capacity);
+    }
+
+    public int next(int price) {
+        int span = 1;
+        while (!prices.isEmpty() && prices.peek() <= price) {
+            prices.pop();
+            span += spans.pop();
+        }
+        prices.push(price);
+        spans.push(span);
+        return span;
+    }
+
+    // Number of (price, span) pairs currently held
+    public int depth() {
+        return prices.size();
+    }
+
+    public static int[] spansBruteForce(int[] prices) {
         int n = prices.length;
         int[] list = new int[n];
 
-
         for (int i = 0; i < n; i++) {
             int curr = prices[i];
             int nextGreater = 1;
@@ -21,9 +61,19 @@ public class OnlineStockSpan {
                 nextGreater++;
             }
             list[i] = nextGreater;
-
         }
-        System.out.println(Arrays.toString(list));
+        return list;
+    }
 
+    public static void main(String[] args) {
+        int[] prices = {100, 80, 60, 70, 60, 75, 85};
+        System.out.println(Arrays.toString(spansBruteForce(prices)));
+
+        OnlineStockSpan spanner = new OnlineStockSpan();
+        int[] list = new int[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            list[i] = spanner.next(prices[i]);
+        }
+        System.out.println(Arrays.toString(list)); // [1, 1, 1, 2, 1, 4, 6]
     }
 }
@@ -0,0 +1,62 @@
+package Stack;
+
+import java.util.Random;
+
+/*
+ Tick throughput for OnlineStockSpan and MultiSymbolStockSpan
+
+ ➤ Ticks are a pre-generated random walk so the timed loop only does span work.
+ ➤ single : one OnlineStockSpan, all ticks
+ ➤ multi  : MultiSymbolStockSpan, ticks spread round-robin over `symbols` tickers (pre-encoded keys)
+ ➤ Target: >= 10M ticks/sec on one core.
+
+ ➤ Usage:
+    java Stack.OnlineStockSpanBenchmark [ticks] [symbols]   (default 50_000_000, 5000)
+*/
+
+public class OnlineStockSpanBenchmark {
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 50_000_000;
+        int symbols = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+
+        int[] prices = new int[ticks];
+        Random random = new Random(11);
+        int price = 10_000;
+        for (int i = 0; i < ticks; i++) {
+            price = Math.max(1, price + random.nextInt(21) - 10);
+            prices[i] = price;
+        }
+        long[] keys = new long[symbols];
+        for (int s = 0; s < symbols; s++) keys[s] = MultiSymbolStockSpan.encode("S" + s);
+
+        for (int r = 0; r < 3; r++) {
+            single(prices);
+            multi(prices, keys);
+        }
+
+        System.out.printf("single : %6.1f M ticks/sec%n", single(prices));
+        System.out.printf("multi  : %6.1f M ticks/sec (%d symbols)%n", multi(prices, keys), symbols);
+        System.out.println("sink = " + sink);
+    }
+
+    private static double single(int[] prices) {
+        OnlineStockSpan spanner = new OnlineStockSpan();
+        long start = System.nanoTime();
+        for (int p : prices) sink += spanner.next(p);
+        return prices.length / ((System.nanoTime() - start) / 1e3);
+    }
+
+    private static double multi(int[] prices, long[] keys) {
+        MultiSymbolStockSpan book = new MultiSymbolStockSpan(keys.length);
+        int s = 0;
+        long start = System.nanoTime();
+        for (int p : prices) {
+            sink += book.next(keys[s], p);
+            if (++s == keys.length) s = 0;
+        }
+        return prices.length / ((System.nanoTime() - start) / 1e3);
+    }
+}
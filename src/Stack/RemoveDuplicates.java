@@ -1,14 +1,13 @@
 package Stack;
 
 import java.util.Arrays;
-import java.util.Stack;
 
 public class RemoveDuplicates {
     public static void main(String[] args) {
         String s = "ecbacba";
         int n = s.length();
 
-        Stack<Character> stack = new Stack<>();
+        CharStack stack = new CharStack();
 
         boolean[] seen = new boolean[26];
         int[] lastIndex = new int[26];
@@ -34,9 +33,7 @@ public class RemoveDuplicates {
 
         StringBuilder sb = new StringBuilder();
 
-        for (char c : stack) {
-            sb.append(c);
-        }
+        sb.append(stack.contentString()); // bottom to top
 
         System.out.println(sb);
         System.out.println('5'-'0');
@@ -1,11 +1,9 @@
 package Stack;
 
-import java.util.Stack;
-
 public class duplicateParanthesis {
 
     public static boolean duplicate(String s) {
-        Stack<Character> stack = new Stack<>();
+        CharStack stack = new CharStack();
 
         for (char c : s.toCharArray()) {
 
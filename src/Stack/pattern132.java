@@ -1,7 +1,5 @@
 package Stack;
 
-import java.util.Stack;
-
 /*
 * Great question! Let me break down the thought process step by step, without diving into code. This is exactly how you should approach these problems.
 
@@ -132,7 +130,7 @@ public class pattern132 {
     }
 
     public static boolean pattern132(int[] nums) {
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         int third = Integer.MIN_VALUE;
 
         for (int i = nums.length - 1; i >= 0; i--) {
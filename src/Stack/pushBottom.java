@@ -1,7 +1,5 @@
 package Stack;
 
-import java.util.Stack;
-
 public class pushBottom {
 
     // so the question raise here that why we need recursion
@@ -12,7 +10,7 @@ public class pushBottom {
     // time complexity via add method --> ?
 
 
-    public static void pushAtBottom(Stack<Integer> s, int data) {
+    public static void pushAtBottom(IntStack s, int data) {
         if (s.isEmpty()) {
             s.push(data);
             return;
@@ -23,7 +21,7 @@ public class pushBottom {
     }
 
     public static void reverseStringStack(String s) {
-        Stack<Character> stack = new Stack<>();
+        CharStack stack = new CharStack();
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < s.length(); i++) {
             stack.push(s.charAt(i));
@@ -37,7 +35,7 @@ public class pushBottom {
     }
 
     public static void main(String[] args) {
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         stack.push(1);
         stack.push(2);
         stack.push(3);
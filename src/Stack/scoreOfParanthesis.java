@@ -1,11 +1,9 @@
 package Stack;
 
-import java.util.Stack;
-
 public class scoreOfParanthesis {
 
     public static int score(String s) {
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         int score = 0;
         for (char c : s.toCharArray()) {
             if (c == '(') {
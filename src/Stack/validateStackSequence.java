@@ -1,10 +1,9 @@
 package Stack;
-import java.util.Stack;
 
 public class validateStackSequence {
 
     public static boolean validate(int[]pushed,int[]popped){
-        Stack<Integer> stack = new Stack<>();
+        IntStack stack = new IntStack();
         int idx = 0;
 
         for (int n : pushed) {
@@ -1,5 +1,13 @@
 package String;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 public class LargestSubstring {
 
     public static int largestSubstringBwEqualChar(String s) {
@@ -33,10 +41,192 @@ public class LargestSubstring {
         return ans;
     }
 
-    public static void main(String[] args) {
+    /*
+     Unicode + streaming version
+
+     ➤ Problems with the two methods above:
+        - largestSubstringOptimized indexes int[26] -> anything outside 'a'..'z' breaks it.
+        - both work on UTF-16 chars, so a character outside the BMP (emoji, rare CJK) counts as two.
+        - the whole input must be a String in memory.
+
+     ➤ Here positions and lengths are counted in CODE POINTS, and the input can arrive in pieces:
+        - GapTracker.accept(CharSequence) : any number of chunks (a surrogate pair may be split)
+        - GapTracker.accept(ByteBuffer)   : raw UTF-8, decoded on the fly; malformed bytes count as U+FFFD
+        - largestSubstringUnicode(ReadableByteChannel) : one reusable 64 KB buffer until EOF
+
+     ➤ First-seen index (compact):
+        - ASCII code points -> plain long[128]
+        - everything else   -> open-addressing table int codePoint -> long firstPosition
+          sized by the number of DISTINCT code points, never by the input length
+          -> memory is bounded by the alphabet (at most 1.1M entries), the input is never stored.
+
+     ➤ Time: O(n) for n code points, one pass. Result is -1 when no code point repeats
+        (same as largestSubstringBwEqualChar).
+    */
+    public static final class GapTracker {
+        private static final int REPLACEMENT = 0xFFFD;
+
+        private final long[] ascii = new long[128]; // first position + 1, 0 = unseen
+        private int[] keys = new int[16];
+        private long[] first = new long[16];
+        private int used;
+
+        private long position; // code points seen so far
+        private long best = -1;
+
+        private char pendingHigh; // high surrogate waiting for its pair (CharSequence input)
+        private int need, cp, min; // UTF-8 decoder state (ByteBuffer input)
+
+        public GapTracker() {
+            Arrays.fill(keys, -1);
+        }
+
+        public void accept(int codePoint) {
+            long pos = position++;
+            long seen;
+            if (codePoint < 128) {
+                seen = ascii[codePoint] - 1;
+                if (seen < 0) ascii[codePoint] = pos + 1;
+            } else {
+                seen = firstOrPut(codePoint, pos);
+            }
+            if (seen >= 0) best = Math.max(best, pos - seen - 1);
+        }
+
+        public void accept(CharSequence chunk) {
+            for (int i = 0; i < chunk.length(); i++) {
+                char c = chunk.charAt(i);
+                if (pendingHigh != 0) {
+                    char high = pendingHigh;
+                    pendingHigh = 0;
+                    if (Character.isLowSurrogate(c)) {
+                        accept(Character.toCodePoint(high, c));
+                        continue;
+                    }
+                    accept(high); // unpaired surrogate counts as itself
+                }
+                if (Character.isHighSurrogate(c)) pendingHigh = c;
+                else accept(c);
+            }
+        }
+
+        public void accept(ByteBuffer utf8) {
+            while (utf8.hasRemaining()) {
+                int b = utf8.get() & 0xFF;
+                if (need > 0) {
+                    if ((b & 0xC0) == 0x80) {
+                        cp = cp << 6 | (b & 0x3F);
+                        if (--need == 0) {
+                            boolean bad = cp < min || cp > Character.MAX_CODE_POINT
+                                    || (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE);
+                            accept(bad ? REPLACEMENT : cp);
+                        }
+                        continue;
+                    }
+                    need = 0;
+                    accept(REPLACEMENT); // truncated sequence, b starts over as a lead byte
+                }
+                if (b < 0x80) {
+                    accept(b);
+                } else if ((b & 0xE0) == 0xC0) {
+                    cp = b & 0x1F;
+                    need = 1;
+                    min = 0x80;
+                } else if ((b & 0xF0) == 0xE0) {
+                    cp = b & 0x0F;
+                    need = 2;
+                    min = 0x800;
+                } else if ((b & 0xF8) == 0xF0) {
+                    cp = b & 0x07;
+                    need = 3;
+                    min = 0x10000;
+                } else {
+                    accept(REPLACEMENT); // stray continuation or invalid lead byte
+                }
+            }
+        }
+
+        // Flush a dangling surrogate / truncated UTF-8 sequence at end of input and return the answer
+        public long finish() {
+            if (pendingHigh != 0) {
+                accept(pendingHigh);
+                pendingHigh = 0;
+            }
+            if (need > 0) {
+                need = 0;
+                accept(REPLACEMENT);
+            }
+            return best;
+        }
+
+        public long distinctCodePoints() {
+            int count = used;
+            for (long a : ascii) if (a != 0) count++;
+            return count;
+        }
+
+        // first position of codePoint, or -1 after recording pos as its first position
+        private long firstOrPut(int codePoint, long pos) {
+            int mask = keys.length - 1;
+            int slot = slot(codePoint, mask);
+            while (keys[slot] != -1) {
+                if (keys[slot] == codePoint) return first[slot];
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = codePoint;
+            first[slot] = pos;
+            if (++used * 2 > keys.length) grow();
+            return -1;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            long[] oldFirst = first;
+            keys = new int[oldKeys.length * 2];
+            first = new long[oldKeys.length * 2];
+            Arrays.fill(keys, -1);
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == -1) continue;
+                int slot = slot(oldKeys[i], mask);
+                while (keys[slot] != -1) slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                first[slot] = oldFirst[i];
+            }
+        }
+
+        private static int slot(int codePoint, int mask) {
+            int h = codePoint * 0x9E3779B9;
+            return (h ^ h >>> 16) & mask;
+        }
+    }
+
+    public static long largestSubstringUnicode(CharSequence s) {
+        GapTracker tracker = new GapTracker();
+        tracker.accept(s);
+        return tracker.finish();
+    }
+
+    public static long largestSubstringUnicode(ReadableByteChannel utf8) throws IOException {
+        GapTracker tracker = new GapTracker();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        while (utf8.read(buffer) != -1) {
+            buffer.flip();
+            tracker.accept(buffer);
+            buffer.clear();
+        }
+        return tracker.finish();
+    }
+
+    public static void main(String[] args) throws IOException {
         String s = "abcaefcb";
 
         System.out.println(largestSubstringBwEqualChar(s));
         System.out.println(largestSubstringOptimized(s));
+
+        String unicode = "\u4f60\ud83d\ude00\u597d\ud83d\ude00\u4f60"; // 你😀好😀你
+        System.out.println(largestSubstringUnicode(unicode));                // 3 (the emoji counts once)
+        byte[] utf8 = unicode.getBytes(StandardCharsets.UTF_8);
+        System.out.println(largestSubstringUnicode(Channels.newChannel(new ByteArrayInputStream(utf8)))); // 3
     }
 }
@@ -0,0 +1,65 @@
+package String;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/*
+ LargestSubstring: ASCII vs CJK-heavy input
+
+ ➤ Inputs (n code points each):
+    - ascii : random 'a'..'z'                     (largestSubstringOptimized works here)
+    - cjk   : random code points from U+4E00..U+9FFF (~21k distinct), 1 in 50 an emoji (surrogate pair)
+ ➤ Modes: largestSubstringOptimized (ascii only), Unicode over the String, Unicode over a UTF-8 channel.
+ ➤ All modes that run on an input must agree.
+
+ ➤ Usage:
+    java String.LargestSubstringBenchmark [n]   (default 20_000_000)
+*/
+
+public class LargestSubstringBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        Random random = new Random(20);
+
+        StringBuilder ascii = new StringBuilder(n);
+        for (int i = 0; i < n; i++) ascii.append((char) ('a' + random.nextInt(26)));
+        StringBuilder cjk = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            cjk.appendCodePoint(random.nextInt(50) == 0 ? 0x1F600 + random.nextInt(64) : 0x4E00 + random.nextInt(0x5200));
+        }
+
+        System.out.printf("%-6s %-10s %12s %10s%n", "input", "mode", "time(ms)", "answer");
+        run("ascii", ascii.toString(), true);
+        run("cjk", cjk.toString(), false);
+    }
+
+    private static void run(String name, String s, boolean asciiOnly) throws IOException {
+        byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+        for (int r = 0; r < 2; r++) { // warm-up
+            if (asciiOnly) LargestSubstring.largestSubstringOptimized(s);
+            LargestSubstring.largestSubstringUnicode(s);
+            LargestSubstring.largestSubstringUnicode(Channels.newChannel(new ByteArrayInputStream(utf8)));
+        }
+
+        long expected = -2;
+        if (asciiOnly) {
+            long start = System.nanoTime();
+            expected = LargestSubstring.largestSubstringOptimized(s);
+            System.out.printf("%-6s %-10s %12.1f %10d%n", name, "int[26]", (System.nanoTime() - start) / 1e6, expected);
+        }
+
+        long start = System.nanoTime();
+        long chars = LargestSubstring.largestSubstringUnicode(s);
+        System.out.printf("%-6s %-10s %12.1f %10d%n", name, "string", (System.nanoTime() - start) / 1e6, chars);
+
+        start = System.nanoTime();
+        long channel = LargestSubstring.largestSubstringUnicode(Channels.newChannel(new ByteArrayInputStream(utf8)));
+        System.out.printf("%-6s %-10s %12.1f %10d%n", name, "utf8", (System.nanoTime() - start) / 1e6, channel);
+
+        if (chars != channel || (asciiOnly && chars != expected)) throw new IllegalStateException(name + ": answers differ");
+    }
+}
@@ -0,0 +1,192 @@
+package StringMatching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AhoCorasick {
+
+    /*
+     Aho–Corasick Multi-Pattern Matching
+
+     ➤ Motivation:
+        - KMP finds ONE pattern per pass -> p patterns cost p passes over the text: O(p * n).
+        - Aho–Corasick builds one automaton from all patterns and finds every occurrence
+          of every pattern in a single pass: O(n + total pattern length + matches).
+
+     ➤ Idea:
+        - Put all patterns in a trie; each trie node is a state = "prefix matched so far".
+        - fail[state] = longest proper suffix of that prefix that is also a trie prefix
+          (the multi-pattern version of KMP's LPS array).
+        - Fold the fail links into the goto table (like KMP's DFA): every (state, char) has a
+          direct next state -> the search loop is one table lookup per character, no fallback loop.
+        - dict[state] = nearest state on the fail chain that ends a pattern, so all patterns
+          ending at a position are reported without walking every fail link.
+
+     ➤ Layout (compact, flat int[] tables):
+        - Characters are mapped to a small alphabet: only chars that occur in some pattern get a
+          class (1..A-1), everything else is class 0 and always leads back toward the root.
+        - delta[state * A + class] = next state
+        - out[state] = first pattern ending at state (-1 if none), sameNext[] chains duplicates
+
+     ➤ Time Complexity:
+        - Build: O(total pattern length * A)
+        - Search: O(n + matches)
+    */
+
+    public interface MatchListener {
+        // patternIndex = position in the pattern list given to the constructor, start = offset in the text
+        void onMatch(int patternIndex, int start);
+    }
+
+    private final String[] patterns;
+    private final int[] charClass = new int[Character.MAX_VALUE + 1];
+    private final int alphabet;
+
+    private int[] delta;
+    private int[] fail;
+    private int[] out;
+    private int[] dict;
+    private final int[] sameNext;
+    private int states;
+
+    public AhoCorasick(List<String> patterns) {
+        this(patterns.toArray(new String[0]));
+    }
+
+    public AhoCorasick(String... patterns) {
+        this.patterns = patterns.clone();
+        this.sameNext = new int[patterns.length];
+
+        // Step 1: compact alphabet
+        int classes = 1;
+        for (String p : patterns) {
+            if (p.isEmpty()) throw new IllegalArgumentException("empty pattern");
+            for (int i = 0; i < p.length(); i++) {
+                char c = p.charAt(i);
+                if (charClass[c] == 0) charClass[c] = classes++;
+            }
+        }
+        alphabet = classes;
+
+        // Step 2: trie (-1 = no edge yet)
+        int capacity = 16;
+        delta = new int[capacity * alphabet];
+        Arrays.fill(delta, -1);
+        out = new int[capacity];
+        Arrays.fill(out, -1);
+        states = 1;
+
+        for (int id = 0; id < patterns.length; id++) {
+            String p = patterns[id];
+            int state = 0;
+            for (int i = 0; i < p.length(); i++) {
+                int idx = state * alphabet + charClass[p.charAt(i)];
+                if (delta[idx] == -1) {
+                    if (states == out.length) {
+                        int cap = out.length * 2;
+                        int oldLen = delta.length;
+                        delta = Arrays.copyOf(delta, cap * alphabet);
+                        Arrays.fill(delta, oldLen, delta.length, -1);
+                        out = Arrays.copyOf(out, cap);
+                        Arrays.fill(out, states, cap, -1);
+                    }
+                    delta[idx] = states++;
+                }
+                state = delta[idx];
+            }
+            // duplicates of the same pattern are chained behind the first one
+            sameNext[id] = out[state];
+            out[state] = id;
+        }
+
+        // Step 3: BFS to compute fail links and complete the goto table
+        fail = new int[states];
+        dict = new int[states];
+        int[] queue = new int[states];
+        int qh = 0, qt = 0;
+
+        dict[0] = -1;
+        for (int c = 0; c < alphabet; c++) {
+            int next = delta[c];
+            if (next == -1) {
+                delta[c] = 0; // missing edges from the root loop back to the root
+            } else {
+                fail[next] = 0;
+                dict[next] = -1;
+                queue[qt++] = next;
+            }
+        }
+
+        while (qh < qt) {
+            int state = queue[qh++];
+            int base = state * alphabet;
+            int failBase = fail[state] * alphabet;
+            for (int c = 0; c < alphabet; c++) {
+                int next = delta[base + c];
+                if (next == -1) {
+                    delta[base + c] = delta[failBase + c]; // borrow the fail state's transition
+                } else {
+                    int f = delta[failBase + c];
+                    fail[next] = f;
+                    dict[next] = out[f] != -1 ? f : dict[f];
+                    queue[qt++] = next;
+                }
+            }
+        }
+        delta = Arrays.copyOf(delta, states * alphabet); // drop unused capacity
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    public int stateCount() {
+        return states;
+    }
+
+    // Single pass over text, every occurrence of every pattern is reported to the listener
+    public void search(CharSequence text, MatchListener listener) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = delta[state * alphabet + charClass[text.charAt(i)]];
+
+            for (int s = out[state] != -1 ? state : dict[state]; s != -1; s = dict[s]) {
+                for (int id = out[s]; id != -1; id = sameNext[id]) {
+                    listener.onMatch(id, i - patterns[id].length() + 1);
+                }
+            }
+        }
+    }
+
+    // Count of all matches, no allocation
+    public long count(CharSequence text) {
+        long total = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = delta[state * alphabet + charClass[text.charAt(i)]];
+            for (int s = out[state] != -1 ? state : dict[state]; s != -1; s = dict[s]) {
+                for (int id = out[s]; id != -1; id = sameNext[id]) total++;
+            }
+        }
+        return total;
+    }
+
+    // Convenience: all matches as {patternIndex, start} pairs in text order
+    public ArrayList<int[]> searchAll(CharSequence text) {
+        ArrayList<int[]> res = new ArrayList<>();
+        search(text, (id, start) -> res.add(new int[]{id, start}));
+        return res;
+    }
+
+    public static void main(String[] args) {
+        AhoCorasick ac = new AhoCorasick("he", "she", "his", "hers");
+        String text = "ushers";
+
+        for (int[] m : ac.searchAll(text)) {
+            System.out.println("\"" + ac.patterns[m[0]] + "\" at index " + m[1]);
+        }
+        // "she" at 1, "he" at 2, "hers" at 2
+        System.out.println("matches: " + ac.count(text) + ", states: " + ac.stateCount());
+    }
+}
@@ -0,0 +1,61 @@
+package StringMatching;
+
+import java.util.Random;
+
+/*
+ AhoCorasick (one pass) vs repeated KMP.KMPsearch (one pass per pattern)
+
+ ➤ Text: random lowercase "log" text; patterns: random substrings of the text (so they do match)
+   plus random strings (mostly misses), lengths 6..20.
+ ➤ Both sides must report the same number of matches.
+
+ ➤ Usage:
+    java StringMatching.AhoCorasickBenchmark [patterns] [textLength]   (default 5000, 1_000_000)
+*/
+
+public class AhoCorasickBenchmark {
+
+    public static void main(String[] args) {
+        int p = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        Random random = new Random(17);
+
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) sb.append((char) ('a' + random.nextInt(16)));
+        String text = sb.toString();
+
+        String[] patterns = new String[p];
+        for (int i = 0; i < p; i++) {
+            int len = 6 + random.nextInt(15);
+            if (i % 2 == 0) {
+                int start = random.nextInt(n - len);
+                patterns[i] = text.substring(start, start + len);
+            } else {
+                StringBuilder pb = new StringBuilder(len);
+                for (int j = 0; j < len; j++) pb.append((char) ('a' + random.nextInt(26)));
+                patterns[i] = pb.toString();
+            }
+        }
+
+        long start = System.nanoTime();
+        AhoCorasick ac = new AhoCorasick(patterns);
+        long build = System.nanoTime() - start;
+
+        long acMatches = 0, acBest = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            start = System.nanoTime();
+            acMatches = ac.count(text);
+            acBest = Math.min(acBest, System.nanoTime() - start);
+        }
+
+        start = System.nanoTime();
+        long kmpMatches = 0;
+        for (String pattern : patterns) kmpMatches += KMP.KMPsearch(text, pattern).size();
+        long kmp = System.nanoTime() - start;
+
+        System.out.printf("patterns=%d text=%d states=%d%n", p, n, ac.stateCount());
+        System.out.printf("aho-corasick : build %.1f ms, search %.1f ms, %d matches%n", build / 1e6, acBest / 1e6, acMatches);
+        System.out.printf("kmp x %-6d : search %.1f ms, %d matches%n", p, kmp / 1e6, kmpMatches);
+        if (acMatches != kmpMatches) throw new IllegalStateException("match counts differ");
+    }
+}
@@ -1,5 +1,10 @@
 package StringMatching;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
 public class BruteForce {
 
     /*
@@ -53,42 +58,123 @@ public class BruteForce {
 
     // now print all occcures if pattern in text brute force way
     public static void search(String str, String pattern) {
+        for (int i : searchAll(str, pattern)) {
+            System.out.println("Pattern found at index " + i);
+        }
+    }
+
+    // A loop to slide pat[] one by one, collecting every index where it matches
+    public static ArrayList<Integer> searchAll(String str, String pattern) {
+        ArrayList<Integer> res = new ArrayList<>();
         int N = str.length();
         int M = pattern.length();
-        // A loop to slide pat[] one by one
         for (int i = 0; i <= N - M; i++) {
-
             int j;
             // For current index i, check for pattern match
             for (j = 0; j < M; j++) {
                 if (str.charAt(i + j) != pattern.charAt(j)) {
-
                     break;
                 }
             }
-
-            // If pattern matches at index i
             if (j == M) {
-                System.out.println("Pattern found at index " + i);
+                res.add(i);
             }
         }
+        return res;
+    }
 
+    /*
+     * 💡 SWAR candidate filter (SIMD Within A Register)
+     * - Most brute-force alignments fail on the very first character.
+     * - Load 8 text bytes into one long and compare them against the first pattern byte
+     *   copied into all 8 lanes (XOR -> a lane becomes 0 where the bytes are equal).
+     * - Do the same for the last pattern byte at offset m-1; OR both results so a lane is 0
+     *   only if BOTH first and last byte match -> 8 alignments rejected per couple of instructions.
+     * - Only surviving lanes are verified character by character (middle of the pattern).
+     * - jdk.incubator.vector would need --add-modules at compile and run time, plain longs need nothing.
+     *
+     * ⏱️ Still O(n * m) worst case, but ~n/8 word operations when candidates are rare.
+     */
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+
+    // 0x80 in every byte lane of v that is zero, 0 everywhere else (exact, no false positives)
+    private static long zeroLanes(long v) {
+        return ~(((v & LOW7) + LOW7) | v | LOW7);
     }
 
-    // fnd the longest prefix suffix length of pattern string
-    public static int lps(String pattern) {
-        int i = 0, j = 1, ans = 0;
-        while (j < pattern.length()) {
-            if (pattern.charAt(i) == pattern.charAt(j)) {
-                i++;
-            } else {
-                i = 0;
-                j++;
+    // First index >= from where pattern occurs in text, or -1
+    public static int indexOfSwar(byte[] text, byte[] pattern, int from) {
+        int n = text.length, m = pattern.length;
+        if (m == 0) return from <= n ? from : -1;
+        long first = (pattern[0] & 0xFFL) * ONES;
+        long last = (pattern[m - 1] & 0xFFL) * ONES;
+
+        int i = Math.max(from, 0);
+        for (; i + m - 1 + 8 <= n; i += 8) {
+            long a = (long) LONGS.get(text, i) ^ first;
+            long b = (long) LONGS.get(text, i + m - 1) ^ last;
+            long hits = zeroLanes(a | b);
+            while (hits != 0) {
+                int k = i + (Long.numberOfTrailingZeros(hits) >>> 3);
+                if (middleMatches(text, k, pattern)) return k;
+                hits &= hits - 1;
             }
+        }
+        for (; i <= n - m; i++) { // tail that doesn't fill a whole word
+            if (text[i] == pattern[0] && text[i + m - 1] == pattern[m - 1] && middleMatches(text, i, pattern)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean middleMatches(byte[] text, int at, byte[] pattern) {
+        for (int j = 1; j < pattern.length - 1; j++) {
+            if (text[at + j] != pattern[j]) return false;
+        }
+        return true;
+    }
+
+    // All occurrences over raw bytes; convert the text once and reuse it for every pattern
+    public static ArrayList<Integer> searchSwar(byte[] text, byte[] pattern) {
+        ArrayList<Integer> res = new ArrayList<>();
+        if (pattern.length == 0 || pattern.length > text.length) return res;
+        for (int i = indexOfSwar(text, pattern, 0); i != -1; i = indexOfSwar(text, pattern, i + 1)) {
+            res.add(i);
+        }
+        return res;
+    }
 
+    // String convenience: copies the text to bytes on every call, so prefer the byte[] overload in loops
+    public static ArrayList<Integer> searchSwar(String str, String pattern) {
+        int M = pattern.length();
+        if (M == 0 || M > str.length()) return new ArrayList<>();
+
+        byte[] pat = new byte[M];
+        for (int j = 0; j < M; j++) {
+            char c = pattern.charAt(j);
+            if (c > 0xFF) return searchAll(str, pattern); // can't be expressed in bytes
+            pat[j] = (byte) c;
+        }
 
+        // chars above 0xFF can never be part of a match, map them to a byte and re-check hits
+        byte[] text = new byte[str.length()];
+        boolean wide = false;
+        for (int i = 0; i < text.length; i++) {
+            char c = str.charAt(i);
+            wide |= c > 0xFF;
+            text[i] = (byte) c;
         }
-        return i;
+
+        ArrayList<Integer> res = searchSwar(text, pat);
+        if (wide) res.removeIf(i -> !str.regionMatches(i, pattern, 0, M));
+        return res;
+    }
+
+    // fnd the longest prefix suffix length of pattern string
+    public static int lps(String pattern) {
+        return PrefixFunctions.longestBorder(pattern);
     }
 
 
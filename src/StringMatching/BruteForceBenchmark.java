@@ -0,0 +1,92 @@
+package StringMatching;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/*
+ BruteForce.searchAll vs BruteForce.searchSwar vs KMP.KMPsearch vs String.indexOf
+
+ ➤ Grid: text length 10^4 .. 10^maxExp  x  alphabet size 4 / 26 / 95 (printable ASCII)
+ ➤ Pattern: 12 random chars from the same alphabet, planted every ~10_000 chars so there are
+   some hits; with a big alphabet first/last-byte candidates are rare and the SWAR filter shines,
+   with 4 letters every 16th alignment survives the filter.
+ ➤ Best of 5 runs, all four must agree on the match count.
+   (No JMH in this project -> plain nanoTime harness with warm-up.)
+ ➤ swar runs on the byte[] overload; text and pattern are converted once per grid cell, outside the timing.
+
+ ➤ Usage:
+    java StringMatching.BruteForceBenchmark [maxExp]   (default 7)
+*/
+
+public class BruteForceBenchmark {
+
+    static long sink;
+
+    public static void main(String[] args) {
+        int maxExp = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+        Random random = new Random(5);
+
+        System.out.printf("%10s %6s %12s %12s %12s %12s%n", "n", "sigma", "brute(ms)", "swar(ms)", "kmp(ms)", "indexOf(ms)");
+        for (int sigma : new int[]{4, 26, 95}) {
+            String pattern = randomText(random, 12, sigma);
+            warmUp(randomText(random, 100_000, sigma), pattern);
+
+            for (int exp = 4; exp <= maxExp; exp++) {
+                int n = (int) Math.pow(10, exp);
+                StringBuilder sb = new StringBuilder(randomText(random, n, sigma));
+                for (int at = 5_000; at + pattern.length() <= n; at += 10_000) {
+                    sb.replace(at, at + pattern.length(), pattern);
+                }
+                String text = sb.toString();
+                byte[] textBytes = text.getBytes(StandardCharsets.ISO_8859_1);
+                byte[] patternBytes = pattern.getBytes(StandardCharsets.ISO_8859_1);
+
+                long[] best = new long[4];
+                int[] counts = new int[4];
+                for (int impl = 0; impl < 4; impl++) {
+                    best[impl] = Long.MAX_VALUE;
+                    for (int r = 0; r < 5; r++) {
+                        long start = System.nanoTime();
+                        counts[impl] = run(impl, text, pattern, textBytes, patternBytes);
+                        best[impl] = Math.min(best[impl], System.nanoTime() - start);
+                    }
+                }
+                if (counts[0] != counts[1] || counts[0] != counts[2] || counts[0] != counts[3]) {
+                    throw new IllegalStateException("implementations disagree");
+                }
+                System.out.printf("%10d %6d %12.2f %12.2f %12.2f %12.2f%n",
+                        n, sigma, best[0] / 1e6, best[1] / 1e6, best[2] / 1e6, best[3] / 1e6);
+            }
+        }
+        System.out.println("sink = " + sink);
+    }
+
+    private static int run(int impl, String text, String pattern, byte[] textBytes, byte[] patternBytes) {
+        switch (impl) {
+            case 0:
+                return BruteForce.searchAll(text, pattern).size();
+            case 1:
+                return BruteForce.searchSwar(textBytes, patternBytes).size();
+            case 2:
+                return KMP.KMPsearch(text, pattern).size();
+            default:
+                int count = 0;
+                for (int i = text.indexOf(pattern); i != -1; i = text.indexOf(pattern, i + 1)) count++;
+                return count;
+        }
+    }
+
+    private static void warmUp(String text, String pattern) {
+        byte[] textBytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        byte[] patternBytes = pattern.getBytes(StandardCharsets.ISO_8859_1);
+        for (int r = 0; r < 20; r++) {
+            for (int impl = 0; impl < 4; impl++) sink += run(impl, text, pattern, textBytes, patternBytes);
+        }
+    }
+
+    private static String randomText(Random random, int n, int sigma) {
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) chars[i] = (char) (' ' + 1 + random.nextInt(sigma));
+        return new String(chars);
+    }
+}
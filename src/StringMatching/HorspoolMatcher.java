@@ -0,0 +1,51 @@
+package StringMatching;
+
+import java.util.Arrays;
+
+public final class HorspoolMatcher extends Matcher {
+
+    /*
+     Boyer–Moore–Horspool
+
+     ➤ Idea:
+        - Compare the window from right to left.
+        - On a mismatch (or after a match) look at the text char under the LAST pattern position
+          and shift the window so that char lines up with its rightmost occurrence in pattern[0..m-2].
+          If it doesn't occur there at all -> shift by the full pattern length m.
+
+     ➤ Shift table is indexed by the low 8 bits of the char (256 ints instead of 65536).
+        Chars sharing low bits keep the smaller shift -> still safe, just occasionally shorter.
+
+     ➤ Time: O(n / m) best case, O(n * m) worst case; Space: O(1) (256 ints)
+    */
+
+    private final int[] shift = new int[256];
+
+    public HorspoolMatcher(String pattern) {
+        super(pattern);
+        int m = pattern.length();
+        Arrays.fill(shift, m);
+        for (int j = 0; j < m - 1; j++) {
+            shift[pattern.charAt(j) & 0xFF] = m - 1 - j;
+        }
+    }
+
+    @Override
+    public int indexOf(CharSequence text, int from) {
+        int n = text.length();
+        int m = pattern.length();
+        char last = pattern.charAt(m - 1);
+
+        int i = Math.max(from, 0);
+        while (i <= n - m) {
+            char c = text.charAt(i + m - 1);
+            if (c == last) {
+                int j = m - 2;
+                while (j >= 0 && text.charAt(i + j) == pattern.charAt(j)) j--;
+                if (j < 0) return i;
+            }
+            i += shift[c & 0xFF];
+        }
+        return -1;
+    }
+}
@@ -2,6 +2,8 @@ package StringMatching;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class KMP {
 
@@ -58,6 +60,90 @@ public class KMP {
         return res; // pattern not found
     }
 
+    /*
+     Parallel KMP (chunked, boundary stitched)
+
+     ➤ Split the text into chunks [from, to). A match starting in a chunk can end up to m-1 chars
+        past it, so each chunk is scanned over [from, to + m - 1) -> chunks overlap by m - 1.
+     ➤ Only matches STARTING inside [from, to) are kept -> a match in the overlap belongs to exactly
+        one chunk, so no de-duplication pass is needed.
+     ➤ ForkJoin splits the range in halves; results come back as int[] in text order, so merging is
+        just concatenating left + right.
+     ➤ Work: O(n + p * m) for p chunks, Span: O(n / p + m)
+    */
+    static final int PARALLEL_CHUNK = 1 << 20; // chars per leaf task
+
+    public static ArrayList<Integer> KMPsearchParallel(String text, String pattern) {
+        return KMPsearchParallel(text, pattern, ForkJoinPool.commonPool());
+    }
+
+    public static ArrayList<Integer> KMPsearchParallel(String text, String pattern, ForkJoinPool pool) {
+        ArrayList<Integer> res = new ArrayList<>();
+        if (pattern.isEmpty() || pattern.length() > text.length()) return res;
+
+        int[] lps = computeLPS(pattern);
+        int lastStart = text.length() - pattern.length() + 1; // match starts lie in [0, lastStart)
+        int[] matches = pool.invoke(new ChunkTask(text, pattern, lps, 0, lastStart));
+        res.ensureCapacity(matches.length);
+        for (int m : matches) res.add(m);
+        return res;
+    }
+
+    static class ChunkTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        final String text, pattern;
+        final int[] lps;
+        final int from, to;
+
+        ChunkTask(String text, String pattern, int[] lps, int from, int to) {
+            this.text = text;
+            this.pattern = pattern;
+            this.lps = lps;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                return searchRange(text, pattern, lps, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(text, pattern, lps, from, mid);
+            left.fork();
+            int[] right = new ChunkTask(text, pattern, lps, mid, to).compute();
+            int[] l = left.join();
+
+            int[] merged = Arrays.copyOf(l, l.length + right.length);
+            System.arraycopy(right, 0, merged, l.length, right.length);
+            return merged;
+        }
+    }
+
+    // KMP scan of text[from, to + m - 1), keeping matches that start in [from, to)
+    static int[] searchRange(String text, String pattern, int[] lps, int from, int to) {
+        int m = pattern.length();
+        int end = Math.min(text.length(), to + m - 1);
+        int[] res = new int[8];
+        int count = 0;
+        int j = 0;
+
+        for (int i = from; i < end; i++) {
+            char c = text.charAt(i);
+            while (j > 0 && c != pattern.charAt(j)) {
+                j = lps[j - 1]; // shift pattern based on LPS
+            }
+            if (c == pattern.charAt(j)) j++;
+            if (j == m) {
+                if (count == res.length) res = Arrays.copyOf(res, count * 2);
+                res[count++] = i - m + 1;
+                j = lps[j - 1];
+            }
+        }
+        return Arrays.copyOf(res, count);
+    }
+
     // Preprocess the pattern to generate the LPS array
 
     //naive approach to generate longest prefix suffix
@@ -91,75 +177,20 @@ public class KMP {
 
     }
 
+    // Full LPS table; PrefixFunctions.prefixFunction has the buffer-reusing and batch variants
     public static int[] longestPrefixSuffix(String s) {
-        int n = s.length();
-        int[] lps = new int[n];
-
-        // len stores the length of longest prefix which
-        // is also a suffix for the previous index
-        int len = 0;
-
-        // lps[0] is always 0
-        lps[0] = 0;
-
-        int i = 1;
-        while (i < n) {
-
-            // If characters match, increment the size of lps
-            if (s.charAt(i) == s.charAt(len)) {
-                len++;
-                lps[i] = len;
-                i++;
-            }
-
-            // If there is a mismatch
-            else {
-                if (len != 0) {
-
-                    // Update len to the previous lps value
-                    // to avoid redundant comparisons
-                    len = lps[len - 1];
-                } else {
-
-                    // If no matching prefix found, set lps[i] to 0
-                    lps[i] = 0;
-                    i++;
-                }
-            }
-        }
-
-        // Last element of lps array will store the length of
-        // longest prefix that is also suffix of entire string
-        return lps;
+        return PrefixFunctions.prefixFunction(s);
     }
 
     private static int[] computeLPS(String pattern) {
-        int[] lps = new int[pattern.length()];
-        int len = 0; // length of previous longest prefix suffix
-        int i = 1;
-
-        while (i < pattern.length()) {
-            if (pattern.charAt(i) == pattern.charAt(len)) {
-                len++;
-                lps[i] = len;
-                i++;
-            } else {
-                if (len != 0) {
-                    len = lps[len - 1]; // fallback
-                } else {
-                    lps[i] = 0;
-                    i++;
-                }
-            }
-        }
-
-        return lps;
+        return PrefixFunctions.prefixFunction(pattern);
     }
 
     public static void main(String[] args) {
         String text = "aabaacaadaabaaba";
         String pattern = "aaba";
-        System.out.println(computeLPSNaive("bbadabc"));
+        System.out.println(computeLPSNaive("bbadabc"));                 // O(n^2)
+        System.out.println(PrefixFunctions.longestBorder("bbadabc"));   // same answer in O(n)
 //        System.out.println(KMPsearch(text, pattern));
 
 
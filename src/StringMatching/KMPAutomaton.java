@@ -0,0 +1,32 @@
+package StringMatching;
+
+/*
+ Common view of a compiled KMP pattern as a state machine over bytes
+
+ ➤ state = number of pattern bytes matched so far (0..length()), length() = full match.
+ ➤ next(state, b) = state after reading byte b (0..255); after a full match it continues with the
+   longest proper border, so overlapping matches are found.
+ ➤ Implementations:
+    - LpsAutomaton : classic LPS table, falls back through lps[j-1] on a mismatch (O(m) space)
+    - KmpDfa       : full transition table, exactly one lookup per byte (O(256 * m) space)
+ ➤ Code that streams bytes (StreamingKMP) only talks to this interface, so either form plugs in.
+*/
+
+public interface KMPAutomaton {
+
+    int length();
+
+    int next(int state, int b);
+
+    // Number of (overlapping) matches in text[from, to)
+    default long count(byte[] text, int from, int to) {
+        int m = length();
+        int state = 0;
+        long matches = 0;
+        for (int i = from; i < to; i++) {
+            state = next(state, text[i] & 0xFF);
+            if (state == m) matches++;
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,60 @@
+package StringMatching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ KMP.KMPsearch vs KMP.KMPsearchParallel on 1..N threads
+
+ ➤ Text: n random chars over a 4-letter alphabet (lots of partial matches -> real LPS fallback work),
+   pattern: 16 chars copied from the text, planted every ~1000 chars so results are non-trivial.
+ ➤ The parallel match positions must equal the sequential ones, index for index.
+
+ ➤ Usage:
+    java -Xmx4g StringMatching.KMPParallelBenchmark [n]   (default 200_000_000)
+*/
+
+public class KMPParallelBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        Random random = new Random(21);
+
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) chars[i] = (char) ('a' + random.nextInt(4));
+        String pattern = new String(chars, 0, 16);
+        for (int at = 1000; at + 16 <= n; at += 1000) pattern.getChars(0, 16, chars, at);
+        String text = new String(chars);
+
+        KMP.KMPsearch(text, pattern);
+        long start = System.nanoTime();
+        int[] expected = toArray(KMP.KMPsearch(text, pattern));
+        long seq = System.nanoTime() - start;
+        System.out.printf("sequential: %.1f ms, %d matches%n", seq / 1e6, expected.length);
+
+        System.out.printf("%8s %12s %10s%n", "threads", "time(ms)", "speedup");
+        for (int p = 1; p <= cores; p = p < cores && p * 2 > cores ? cores : p * 2) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            KMP.KMPsearchParallel(text, pattern, pool); // warm-up
+            start = System.nanoTime();
+            ArrayList<Integer> found = KMP.KMPsearchParallel(text, pattern, pool);
+            long t = System.nanoTime() - start;
+            pool.shutdown();
+
+            int[] got = toArray(found);
+            if (!Arrays.equals(got, expected)) {
+                throw new IllegalStateException("parallel matches differ at " + p + " threads (" + got.length + " vs " + expected.length + ")");
+            }
+            System.out.printf("%8d %12.1f %10.2f%n", p, t / 1e6, (double) seq / t);
+        }
+    }
+
+    private static int[] toArray(ArrayList<Integer> list) {
+        int[] res = new int[list.size()];
+        for (int i = 0; i < res.length; i++) res[i] = list.get(i);
+        return res;
+    }
+}
@@ -0,0 +1,72 @@
+package StringMatching;
+
+import java.nio.charset.StandardCharsets;
+
+public final class KmpDfa implements KMPAutomaton {
+
+    /*
+     KMP as a full DFA over the byte alphabet
+
+     ➤ dfa[state][byte] = next state, stored flat as dfa[state * 256 + byte].
+     ➤ Built from the pattern in O(256 * m) (Knuth–Morris–Pratt / Sedgewick construction):
+        - x = "restart state" = where the LPS fallback would land for the prefix matched so far
+        - row j copies row x (every mismatch behaves like state x), then the matching byte goes to j+1
+        - row m (full match) copies the row of the final restart state -> overlapping matches work
+     ➤ Search loop: state = dfa[(state << 8) | b] -> one load per byte, no fallback loop and no
+        data-dependent branches except the (rarely taken) "state == m" match check.
+     ➤ Space: 256 ints per pattern byte (1 KB per state).
+    */
+
+    private final int m;
+    private final int[] dfa;
+
+    public KmpDfa(String pattern) {
+        this(pattern.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public KmpDfa(byte[] pattern) {
+        m = pattern.length;
+        if (m == 0) throw new IllegalArgumentException("empty pattern");
+        dfa = new int[(m + 1) * 256];
+
+        dfa[pattern[0] & 0xFF] = 1;
+        int x = 0;
+        for (int j = 1; j <= m; j++) {
+            System.arraycopy(dfa, x * 256, dfa, j * 256, 256); // mismatch transitions
+            if (j < m) {
+                int c = pattern[j] & 0xFF;
+                dfa[j * 256 + c] = j + 1;                       // match transition
+                x = dfa[x * 256 + c];
+            }
+        }
+    }
+
+    @Override
+    public int length() {
+        return m;
+    }
+
+    @Override
+    public int next(int state, int b) {
+        return dfa[(state << 8) | b];
+    }
+
+    @Override
+    public long count(byte[] text, int from, int to) {
+        int[] table = dfa;
+        int state = 0;
+        long matches = 0;
+        for (int i = from; i < to; i++) {
+            state = table[(state << 8) | (text[i] & 0xFF)];
+            if (state == m) matches++;
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) {
+        byte[] text = "aabaacaadaabaaba".getBytes(StandardCharsets.UTF_8);
+        KMPAutomaton dfa = new KmpDfa("aaba");
+        KMPAutomaton lps = new LpsAutomaton("aaba".getBytes(StandardCharsets.UTF_8));
+        System.out.println(dfa.count(text, 0, text.length) + " " + lps.count(text, 0, text.length)); // 3 3
+    }
+}
@@ -0,0 +1,57 @@
+package StringMatching;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/*
+ LpsAutomaton (fallback loop) vs KmpDfa (one table lookup per byte)
+
+ ➤ Texts of n bytes:
+    - skewed  : 90% 'a', 10% 'b'; pattern "aaaaaaab" -> long fallback chains on almost every 'b'
+    - uniform : random bytes 0..255; pattern of 8 random bytes -> mismatch after a byte or two,
+                but which branch is taken is pure chance -> mispredicted fallbacks in the LPS loop
+ ➤ Java can't read CPU counters; to see the branch-miss difference directly run under
+   perf stat -e branches,branch-misses java StringMatching.KmpDfaBenchmark
+
+ ➤ Usage:
+    java StringMatching.KmpDfaBenchmark [n]   (default 200_000_000)
+*/
+
+public class KmpDfaBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000_000;
+        Random random = new Random(13);
+
+        byte[] skewed = new byte[n];
+        for (int i = 0; i < n; i++) skewed[i] = (byte) (random.nextInt(10) == 0 ? 'b' : 'a');
+        byte[] uniform = new byte[n];
+        random.nextBytes(uniform);
+        byte[] randomPattern = new byte[8];
+        random.nextBytes(randomPattern);
+
+        System.out.printf("%-8s %10s %10s %10s%n", "text", "lps(ms)", "dfa(ms)", "matches");
+        run("skewed", skewed, "aaaaaaab".getBytes(StandardCharsets.UTF_8));
+        run("uniform", uniform, randomPattern);
+    }
+
+    private static void run(String name, byte[] text, byte[] pattern) {
+        KMPAutomaton lps = new LpsAutomaton(pattern);
+        KMPAutomaton dfa = new KmpDfa(pattern);
+        for (int r = 0; r < 3; r++) { // warm-up on a slice
+            lps.count(text, 0, Math.min(text.length, 1 << 22));
+            dfa.count(text, 0, Math.min(text.length, 1 << 22));
+        }
+
+        long start = System.nanoTime();
+        long a = lps.count(text, 0, text.length);
+        long lpsTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long b = dfa.count(text, 0, text.length);
+        long dfaTime = System.nanoTime() - start;
+
+        if (a != b) throw new IllegalStateException(name + ": match counts differ");
+        System.out.printf("%-8s %10.1f %10.1f %10d%n", name, lpsTime / 1e6, dfaTime / 1e6, a);
+    }
+}
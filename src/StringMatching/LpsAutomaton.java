@@ -0,0 +1,33 @@
+package StringMatching;
+
+// KMPAutomaton backed by the LPS array (same table as KMP.computeLPS, over bytes)
+public final class LpsAutomaton implements KMPAutomaton {
+
+    private final byte[] pattern;
+    private final int[] lps;
+
+    public LpsAutomaton(byte[] pattern) {
+        if (pattern.length == 0) throw new IllegalArgumentException("empty pattern");
+        this.pattern = pattern.clone();
+        this.lps = computeLPS(this.pattern);
+    }
+
+    static int[] computeLPS(byte[] pattern) {
+        return PrefixFunctions.prefixFunction(pattern);
+    }
+
+    @Override
+    public int length() {
+        return pattern.length;
+    }
+
+    @Override
+    public int next(int state, int b) {
+        byte c = (byte) b;
+        if (state == pattern.length) state = lps[state - 1]; // continue after a full match
+        while (state > 0 && c != pattern[state]) {
+            state = lps[state - 1]; // data-dependent fallback chain
+        }
+        return c == pattern[state] ? state + 1 : 0;
+    }
+}
@@ -0,0 +1,102 @@
+package StringMatching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public abstract class Matcher {
+
+    /*
+     Compiled single-pattern matcher with automatic algorithm choice
+
+     ➤ Matcher.compile(pattern) looks at the pattern once and picks:
+        - m < 4                    -> NaiveMatcher   (brute force, nothing to precompute, short inner loop)
+        - repetitive / low entropy -> TwoWayMatcher  (Crochemore–Perrin: O(n) worst case, O(1) extra space;
+                                      skip-based algorithms degrade to O(n * m) on patterns like "aaaa…ab")
+        - otherwise                -> HorspoolMatcher (Boyer–Moore–Horspool: skips up to m chars per
+                                      mismatch, sublinear on long patterns over large alphabets)
+
+     ➤ Entropy = Shannon entropy of the pattern's own character distribution (bits per char).
+        Few distinct chars -> low entropy -> mismatches come late and shifts are short.
+
+     ➤ Compiled matchers are immutable: one instance can be shared by any number of threads.
+        Matcher.cached(pattern) keeps compiled matchers in a concurrent map for reuse.
+    */
+
+    static final int SHORT_PATTERN = 4;
+    static final double LOW_ENTROPY_BITS = 2.0;
+    private static final int CACHE_LIMIT = 4096;
+    private static final ConcurrentHashMap<String, Matcher> CACHE = new ConcurrentHashMap<>();
+
+    protected final String pattern;
+
+    protected Matcher(String pattern) {
+        if (pattern.isEmpty()) throw new IllegalArgumentException("empty pattern");
+        this.pattern = pattern;
+    }
+
+    public static Matcher compile(String pattern) {
+        if (pattern.length() < SHORT_PATTERN) return new NaiveMatcher(pattern);
+        if (entropy(pattern) < LOW_ENTROPY_BITS) return new TwoWayMatcher(pattern);
+        return new HorspoolMatcher(pattern);
+    }
+
+    // compile() through a shared cache; the cache is simply dropped when it grows past CACHE_LIMIT
+    public static Matcher cached(String pattern) {
+        Matcher m = CACHE.get(pattern);
+        if (m == null) {
+            if (CACHE.size() >= CACHE_LIMIT) CACHE.clear();
+            m = CACHE.computeIfAbsent(pattern, Matcher::compile);
+        }
+        return m;
+    }
+
+    // Shannon entropy in bits per character
+    static double entropy(String s) {
+        HashMap<Character, Integer> freq = new HashMap<>();
+        for (int i = 0; i < s.length(); i++) freq.merge(s.charAt(i), 1, Integer::sum);
+        double h = 0;
+        for (int f : freq.values()) {
+            double p = (double) f / s.length();
+            h -= p * Math.log(p) / Math.log(2);
+        }
+        return h;
+    }
+
+    // First index >= from where the pattern occurs, or -1
+    public abstract int indexOf(CharSequence text, int from);
+
+    public int indexOf(CharSequence text) {
+        return indexOf(text, 0);
+    }
+
+    // All (possibly overlapping) occurrences, same result as KMP.KMPsearch
+    public ArrayList<Integer> findAll(CharSequence text) {
+        ArrayList<Integer> res = new ArrayList<>();
+        for (int i = indexOf(text, 0); i != -1; i = indexOf(text, i + 1)) res.add(i);
+        return res;
+    }
+
+    public int count(CharSequence text) {
+        int count = 0;
+        for (int i = indexOf(text, 0); i != -1; i = indexOf(text, i + 1)) count++;
+        return count;
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + pattern + "]";
+    }
+
+    public static void main(String[] args) {
+        String text = "the quick brown fox jumps over the lazy dog; aaaaaaaaab aaaab";
+        for (String p : new String[]{"ox", "lazy dog", "aaaab", "the"}) {
+            Matcher m = Matcher.cached(p);
+            System.out.println(m + " -> " + m.findAll(text));
+        }
+    }
+}
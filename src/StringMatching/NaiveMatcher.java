@@ -0,0 +1,24 @@
+package StringMatching;
+
+// Brute-force matcher for very short patterns (see BruteForce.search): no tables to build,
+// and with m < 4 the inner loop is at most a few comparisons anyway.
+public final class NaiveMatcher extends Matcher {
+
+    public NaiveMatcher(String pattern) {
+        super(pattern);
+    }
+
+    @Override
+    public int indexOf(CharSequence text, int from) {
+        int N = text.length();
+        int M = pattern.length();
+        char first = pattern.charAt(0);
+        for (int i = Math.max(from, 0); i <= N - M; i++) {
+            if (text.charAt(i) != first) continue;
+            int j = 1;
+            while (j < M && text.charAt(i + j) == pattern.charAt(j)) j++;
+            if (j == M) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,215 @@
+package StringMatching;
+
+import java.util.Arrays;
+
+public class PrefixFunctions {
+
+    /*
+     Prefix function (LPS) and Z-function, allocation-free
+
+     ➤ Prefix function: pi[i] = length of the longest proper prefix of s[0..i] that is also a suffix of it
+        (the LPS array of KMP). pi[n-1] = longest border of the whole string.
+     ➤ Z-function: z[i] = length of the longest common prefix of s and s[i..]  (z[0] = n by convention).
+        Kept in the same window [l, r) of the rightmost match seen so far -> O(n).
+
+     ➤ Why a separate module:
+        - KMP.computeLPS / KMP.longestPrefixSuffix, LpsAutomaton.computeLPS and BruteForce.lps were
+          separate copies of the same loop, each allocating.
+        - Computing prefix functions for millions of short keys is dominated by `new int[n]`.
+
+     ➤ Three ways to call it, all O(n) and none allocating in the loop:
+        - into a caller-supplied buffer    : prefixFunction(s, out) / zFunction(s, out)
+        - into the thread's scratch buffer : scratch(n) (grown on demand, reused by the next call)
+        - batch over packed keys           : keys k live in chars[offsets[k] .. offsets[k+1]),
+                                             results go to out[offsets[k] ..] in the same layout
+    */
+
+    // One growable scratch buffer per thread; valid until the same thread asks for it again
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[64]);
+
+    public static int[] scratch(int minLength) {
+        int[] buf = SCRATCH.get();
+        if (buf.length < minLength) {
+            buf = new int[Math.max(minLength, buf.length * 2)];
+            SCRATCH.set(buf);
+        }
+        return buf;
+    }
+
+    // ---------- prefix function ----------
+
+    // pi of s into out[0, n); returns n
+    public static int prefixFunction(CharSequence s, int[] out) {
+        int n = s.length();
+        checkCapacity(out, 0, n);
+        if (n == 0) return 0;
+        out[0] = 0;
+        int len = 0; // border of the previous prefix
+        for (int i = 1; i < n; i++) {
+            char c = s.charAt(i);
+            while (len > 0 && c != s.charAt(len)) len = out[len - 1]; // fallback
+            if (c == s.charAt(len)) len++;
+            out[i] = len;
+        }
+        return n;
+    }
+
+    // pi of chars[from, from + n) into out[outFrom, outFrom + n)
+    public static void prefixFunction(char[] chars, int from, int n, int[] out, int outFrom) {
+        checkCapacity(out, outFrom, n);
+        if (n == 0) return;
+        out[outFrom] = 0;
+        int len = 0;
+        for (int i = 1; i < n; i++) {
+            char c = chars[from + i];
+            while (len > 0 && c != chars[from + len]) len = out[outFrom + len - 1];
+            if (c == chars[from + len]) len++;
+            out[outFrom + i] = len;
+        }
+    }
+
+    // Same kernel over raw bytes (LpsAutomaton matches byte streams)
+    public static void prefixFunction(byte[] bytes, int from, int n, int[] out, int outFrom) {
+        checkCapacity(out, outFrom, n);
+        if (n == 0) return;
+        out[outFrom] = 0;
+        int len = 0;
+        for (int i = 1; i < n; i++) {
+            byte c = bytes[from + i];
+            while (len > 0 && c != bytes[from + len]) len = out[outFrom + len - 1];
+            if (c == bytes[from + len]) len++;
+            out[outFrom + i] = len;
+        }
+    }
+
+    public static int[] prefixFunction(byte[] bytes) {
+        int[] pi = new int[bytes.length];
+        prefixFunction(bytes, 0, bytes.length, pi, 0);
+        return pi;
+    }
+
+    // Convenience: fresh array (what KMP.longestPrefixSuffix used to return)
+    public static int[] prefixFunction(CharSequence s) {
+        int[] pi = new int[s.length()];
+        prefixFunction(s, pi);
+        return pi;
+    }
+
+    // Longest proper prefix that is also a suffix, in O(n) using the thread's scratch buffer
+    public static int longestBorder(CharSequence s) {
+        int n = s.length();
+        if (n == 0) return 0;
+        int[] pi = scratch(n);
+        prefixFunction(s, pi);
+        return pi[n - 1];
+    }
+
+    // ---------- Z-function ----------
+
+    // z of s into out[0, n); returns n
+    public static int zFunction(CharSequence s, int[] out) {
+        int n = s.length();
+        checkCapacity(out, 0, n);
+        if (n == 0) return 0;
+        out[0] = n;
+        int l = 0, r = 0; // s[l, r) == s[0, r - l), r maximal so far
+        for (int i = 1; i < n; i++) {
+            int z = i < r ? Math.min(r - i, out[i - l]) : 0;
+            while (i + z < n && s.charAt(z) == s.charAt(i + z)) z++;
+            if (i + z > r) {
+                l = i;
+                r = i + z;
+            }
+            out[i] = z;
+        }
+        return n;
+    }
+
+    // z of chars[from, from + n) into out[outFrom, outFrom + n)
+    public static void zFunction(char[] chars, int from, int n, int[] out, int outFrom) {
+        checkCapacity(out, outFrom, n);
+        if (n == 0) return;
+        out[outFrom] = n;
+        int l = 0, r = 0;
+        for (int i = 1; i < n; i++) {
+            int z = i < r ? Math.min(r - i, out[outFrom + i - l]) : 0;
+            while (i + z < n && chars[from + z] == chars[from + i + z]) z++;
+            if (i + z > r) {
+                l = i;
+                r = i + z;
+            }
+            out[outFrom + i] = z;
+        }
+    }
+
+    public static int[] zFunction(CharSequence s) {
+        int[] z = new int[s.length()];
+        zFunction(s, z);
+        return z;
+    }
+
+    // ---------- batch over packed keys ----------
+
+    // keys k = 0..count-1 are chars[offsets[k], offsets[k+1]); out uses the same offsets
+    public static void prefixFunctionBatch(char[] chars, int[] offsets, int count, int[] out) {
+        checkOffsets(chars, offsets, count);
+        for (int k = 0; k < count; k++) {
+            int from = offsets[k];
+            prefixFunction(chars, from, offsets[k + 1] - from, out, from);
+        }
+    }
+
+    public static void zFunctionBatch(char[] chars, int[] offsets, int count, int[] out) {
+        checkOffsets(chars, offsets, count);
+        for (int k = 0; k < count; k++) {
+            int from = offsets[k];
+            zFunction(chars, from, offsets[k + 1] - from, out, from);
+        }
+    }
+
+    // Only the longest border of every key: borders[k]; the full tables go through scratch
+    public static void longestBorders(char[] chars, int[] offsets, int count, int[] borders) {
+        checkOffsets(chars, offsets, count);
+        if (borders.length < count) throw new IllegalArgumentException("borders needs " + count + " slots");
+        int maxLen = 0;
+        for (int k = 0; k < count; k++) maxLen = Math.max(maxLen, offsets[k + 1] - offsets[k]);
+        int[] pi = scratch(maxLen);
+        for (int k = 0; k < count; k++) {
+            int n = offsets[k + 1] - offsets[k];
+            if (n == 0) {
+                borders[k] = 0;
+                continue;
+            }
+            prefixFunction(chars, offsets[k], n, pi, 0);
+            borders[k] = pi[n - 1];
+        }
+    }
+
+    private static void checkCapacity(int[] out, int from, int n) {
+        if (from < 0 || out.length - from < n) {
+            throw new IllegalArgumentException("output buffer too small: need " + n + " ints at " + from);
+        }
+    }
+
+    private static void checkOffsets(char[] chars, int[] offsets, int count) {
+        if (count < 0 || offsets.length < count + 1) throw new IllegalArgumentException("offsets needs count + 1 entries");
+        for (int k = 0; k < count; k++) {
+            if (offsets[k] < 0 || offsets[k] > offsets[k + 1] || offsets[k + 1] > chars.length) {
+                throw new IllegalArgumentException("bad key bounds at " + k);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println(Arrays.toString(prefixFunction("aabaaab"))); // [0, 1, 0, 1, 2, 2, 3]
+        System.out.println(Arrays.toString(zFunction("aabxaab")));      // [7, 1, 0, 0, 3, 1, 0]
+        System.out.println(longestBorder("ababab"));                    // 4
+
+        // three keys packed into one array
+        char[] packed = "abababaaaxyz".toCharArray();
+        int[] offsets = {0, 6, 9, 12};
+        int[] borders = new int[3];
+        longestBorders(packed, offsets, 3, borders);
+        System.out.println(Arrays.toString(borders));                   // [4, 2, 0]
+    }
+}
@@ -0,0 +1,66 @@
+package StringMatching;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/*
+ Prefix functions for many short keys: KMP.longestPrefixSuffix per key vs PrefixFunctions batch
+
+ ➤ Keys: n random keys of 4..32 chars over a 3-letter alphabet, packed into one char[] + offsets.
+ ➤ per-key : KMP.longestPrefixSuffix on prebuilt String keys (one new int[] per key)
+ ➤ batch   : PrefixFunctions.longestBorders over the packed array (thread scratch, no allocation)
+ ➤ Both must produce the same border for every key; bytes allocated by the timed loop are reported.
+
+ ➤ Usage:
+    java StringMatching.PrefixFunctionsBenchmark [n]   (default 2_000_000)
+*/
+
+public class PrefixFunctionsBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Random random = new Random(19);
+
+        String[] keys = new String[n];
+        int[] offsets = new int[n + 1];
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < n; k++) {
+            int len = 4 + random.nextInt(29);
+            int start = sb.length();
+            for (int i = 0; i < len; i++) sb.append((char) ('a' + random.nextInt(3)));
+            keys[k] = sb.substring(start);
+            offsets[k + 1] = sb.length();
+        }
+        char[] packed = sb.toString().toCharArray();
+        int[] expected = new int[n];
+        int[] borders = new int[n];
+
+        for (int r = 0; r < 3; r++) { // warm-up
+            for (int k = 0; k < n; k++) expected[k] = KMP.longestPrefixSuffix(keys[k])[keys[k].length() - 1];
+            PrefixFunctions.longestBorders(packed, offsets, n, borders);
+        }
+
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int k = 0; k < n; k++) expected[k] = KMP.longestPrefixSuffix(keys[k])[keys[k].length() - 1];
+        long perKey = System.nanoTime() - start;
+        long perKeyBytes = allocatedBytes() - bytes;
+
+        bytes = allocatedBytes();
+        start = System.nanoTime();
+        PrefixFunctions.longestBorders(packed, offsets, n, borders);
+        long batch = System.nanoTime() - start;
+        long batchBytes = allocatedBytes() - bytes;
+
+        for (int k = 0; k < n; k++) {
+            if (borders[k] != expected[k]) throw new IllegalStateException("key " + k + " differs");
+        }
+        System.out.printf("%-8s %12s %14s%n", "mode", "time(ms)", "allocated(B)");
+        System.out.printf("%-8s %12.1f %14d%n", "per-key", perKey / 1e6, perKeyBytes);
+        System.out.printf("%-8s %12.1f %14d%n", "batch", batch / 1e6, batchBytes);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
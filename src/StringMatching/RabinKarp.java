@@ -0,0 +1,290 @@
+package StringMatching;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RabinKarp {
+
+    /*
+     Rabin–Karp Rolling-Hash Search
+
+     ➤ Motivation (see BruteForce):
+        - Brute force compares the pattern at every alignment -> O(n * m).
+        - Rabin–Karp compares one number per alignment instead: the hash of the current window.
+          Sliding the window by one char updates the hash in O(1) ("rolling" hash).
+
+     ➤ Hash:
+        - Polynomial hash h(s) = s[0]*B^(m-1) + s[1]*B^(m-2) + ... + s[m-1]   (mod P)
+        - P = 2^61 - 1 (Mersenne prime), so a*b mod P needs no BigInteger: split the 122-bit product
+          with Math.multiplyHigh and fold the high part back in.
+        - Roll: h' = (h - out * B^(m-1)) * B + in
+        - Equal hashes are only candidates -> every candidate is verified char by char,
+          so a collision can cost time but never produce a wrong answer.
+
+     ➤ What the engine offers:
+        - searchAll        : one pattern
+        - searchMany       : a SET of same-length patterns in one pass (fingerprint -> pattern table)
+        - duplicateSubstrings / longestDuplicateSubstring : repeated substrings of length L
+        - search2D         : a pattern matrix inside an int[][] matrix (rows hashed, then columns)
+
+     ➤ Time Complexity: O(n + m) expected (+ verification of real matches), O(n * m) only if an
+        adversary could force collisions, which a 61-bit modulus with a secret base drawn per run
+        (SecureRandom, uniform over ~2^61 values) makes impractical.
+    */
+
+    static final long MOD = (1L << 61) - 1;
+    // uniform over [2^40, P - 1) from SecureRandom: ~2^61 possible bases, none predictable from the clock
+    static final long BASE = new SecureRandom().nextLong(1L << 40, MOD - 1);
+
+    static long mulMod(long a, long b) {
+        long hi = Math.multiplyHigh(a, b);
+        long lo = a * b;
+        // product = hi * 2^64 + lo ; 2^61 = 1 (mod P)
+        long r = (lo & MOD) + (lo >>> 61) + (hi << 3);
+        r = (r & MOD) + (r >>> 61);
+        return r >= MOD ? r - MOD : r;
+    }
+
+    static long addMod(long a, long b) {
+        long r = a + b;
+        return r >= MOD ? r - MOD : r;
+    }
+
+    static long subMod(long a, long b) {
+        long r = a - b;
+        return r < 0 ? r + MOD : r;
+    }
+
+    static long power(int e) {
+        long r = 1;
+        for (int i = 0; i < e; i++) r = mulMod(r, BASE);
+        return r;
+    }
+
+    static long hash(CharSequence s, int from, int len) {
+        long h = 0;
+        for (int i = from; i < from + len; i++) h = addMod(mulMod(h, BASE), s.charAt(i) + 1);
+        return h;
+    }
+
+    // All occurrences of one pattern
+    public static ArrayList<Integer> searchAll(String text, String pattern) {
+        ArrayList<Integer> res = new ArrayList<>();
+        int n = text.length(), m = pattern.length();
+        if (m == 0 || m > n) return res;
+
+        long target = hash(pattern, 0, m);
+        long high = power(m - 1);
+        long h = hash(text, 0, m);
+        for (int i = 0; ; i++) {
+            if (h == target && text.regionMatches(i, pattern, 0, m)) res.add(i);
+            if (i + m >= n) break;
+            h = addMod(mulMod(subMod(h, mulMod(text.charAt(i) + 1, high)), BASE), text.charAt(i + m) + 1);
+        }
+        return res;
+    }
+
+    /*
+     Many patterns of the same length m, one pass:
+       - fingerprints of all patterns go in an open-addressing table (long hash -> pattern index),
+         patterns with equal hashes (duplicates or collisions) are chained through nextSame[].
+       - each window hash is looked up once; every hit is verified before it is reported.
+    */
+    public static void searchMany(String text, String[] patterns, AhoCorasick.MatchListener listener) {
+        if (patterns.length == 0) return;
+        int m = patterns[0].length();
+        for (String p : patterns) {
+            if (p.length() != m || m == 0) throw new IllegalArgumentException("patterns must share one non-zero length");
+        }
+        int n = text.length();
+        if (m > n) return;
+
+        int cap = Integer.highestOneBit(Math.max(2, patterns.length * 2 - 1)) << 1;
+        int mask = cap - 1;
+        long[] keys = new long[cap];
+        int[] first = new int[cap];
+        Arrays.fill(first, -1);
+        int[] nextSame = new int[patterns.length];
+
+        for (int id = 0; id < patterns.length; id++) {
+            long h = hash(patterns[id], 0, m);
+            int slot = slot(h, mask);
+            while (first[slot] != -1 && keys[slot] != h) slot = (slot + 1) & mask;
+            keys[slot] = h;
+            nextSame[id] = first[slot];
+            first[slot] = id;
+        }
+
+        long high = power(m - 1);
+        long h = hash(text, 0, m);
+        for (int i = 0; ; i++) {
+            int slot = slot(h, mask);
+            while (first[slot] != -1) {
+                if (keys[slot] == h) {
+                    for (int id = first[slot]; id != -1; id = nextSame[id]) {
+                        if (text.regionMatches(i, patterns[id], 0, m)) listener.onMatch(id, i);
+                    }
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (i + m >= n) break;
+            h = addMod(mulMod(subMod(h, mulMod(text.charAt(i) + 1, high)), BASE), text.charAt(i + m) + 1);
+        }
+    }
+
+    private static int slot(long h, int mask) {
+        return (int) ((h * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    /*
+     Every start index i whose length-L substring already appeared at an earlier index.
+       - table: window hash -> earliest start with that hash (chained through nextStart[] on collisions)
+       - a repeat is only reported after regionMatches confirms it
+    */
+    public static ArrayList<Integer> duplicateSubstrings(String s, int L) {
+        ArrayList<Integer> res = new ArrayList<>();
+        int n = s.length();
+        if (L <= 0 || L > n) return res;
+
+        int windows = n - L + 1;
+        int cap = Integer.highestOneBit(Math.max(2, windows * 2 - 1)) << 1;
+        int mask = cap - 1;
+        long[] keys = new long[cap];
+        int[] head = new int[cap];
+        Arrays.fill(head, -1);
+        int[] nextStart = new int[windows]; // other distinct substrings that share the same hash
+
+        long high = power(L - 1);
+        long h = hash(s, 0, L);
+        for (int i = 0; i < windows; i++) {
+            if (i > 0) h = addMod(mulMod(subMod(h, mulMod(s.charAt(i - 1) + 1, high)), BASE), s.charAt(i + L - 1) + 1);
+
+            int slot = slot(h, mask);
+            while (head[slot] != -1 && keys[slot] != h) slot = (slot + 1) & mask;
+
+            boolean seen = false;
+            for (int j = head[slot]; j != -1 && !seen; j = nextStart[j]) {
+                seen = s.regionMatches(i, s, j, L);
+            }
+            if (seen) {
+                res.add(i);
+            } else {
+                keys[slot] = h;
+                nextStart[i] = head[slot];
+                head[slot] = i;
+            }
+        }
+        return res;
+    }
+
+    // Longest substring that occurs at least twice (LeetCode 1044): binary search on L
+    public static String longestDuplicateSubstring(String s) {
+        int lo = 1, hi = s.length() - 1;
+        int bestStart = -1, bestLen = 0;
+        while (lo <= hi) {
+            int mid = lo + (hi - lo) / 2;
+            ArrayList<Integer> dups = duplicateSubstrings(s, mid);
+            if (!dups.isEmpty()) {
+                bestStart = dups.get(0);
+                bestLen = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return bestStart == -1 ? "" : s.substring(bestStart, bestStart + bestLen);
+    }
+
+    /*
+     2D search: positions {row, col} where pattern (pr x pc) occurs in matrix (rows x cols)
+
+       Step 1: colHash[c] = hash of matrix[r..r+pr-1][c] going down column c, rolled one row at a time
+       Step 2: for each row band, roll a second hash across colHash with width pc
+       Step 3: compare with the same two-level hash of the pattern, verify cell by cell
+       -> O(rows * cols) expected instead of O(rows * cols * pr * pc)
+    */
+    public static List<int[]> search2D(int[][] matrix, int[][] pattern) {
+        List<int[]> ans = new ArrayList<>();
+        int rows = matrix.length, pr = pattern.length;
+        if (rows == 0 || pr == 0 || pr > rows) return ans;
+        int cols = matrix[0].length, pc = pattern[0].length;
+        if (pc == 0 || pc > cols) return ans;
+
+        long rowBase = BASE;
+        long colBase = addMod(mulMod(BASE, BASE), 7); // second, different base for the horizontal pass
+        long rowHigh = 1, colHigh = 1;
+        for (int i = 1; i < pr; i++) rowHigh = mulMod(rowHigh, rowBase);
+        for (int i = 1; i < pc; i++) colHigh = mulMod(colHigh, colBase);
+
+        // hash of the pattern: columns first, then across
+        long target = 0;
+        for (int c = 0; c < pc; c++) {
+            long ch = 0;
+            for (int r = 0; r < pr; r++) ch = addMod(mulMod(ch, rowBase), cell(pattern[r][c]));
+            target = addMod(mulMod(target, colBase), ch);
+        }
+
+        long[] colHash = new long[cols];
+        for (int c = 0; c < cols; c++) {
+            for (int r = 0; r < pr; r++) colHash[c] = addMod(mulMod(colHash[c], rowBase), cell(matrix[r][c]));
+        }
+
+        for (int top = 0; ; top++) {
+            long h = 0;
+            for (int c = 0; c < pc; c++) h = addMod(mulMod(h, colBase), colHash[c]);
+            for (int left = 0; ; left++) {
+                if (h == target && verify2D(matrix, pattern, top, left)) ans.add(new int[]{top, left});
+                if (left + pc >= cols) break;
+                h = addMod(mulMod(subMod(h, mulMod(colHash[left], colHigh)), colBase), colHash[left + pc]);
+            }
+
+            if (top + pr >= rows) break;
+            for (int c = 0; c < cols; c++) { // slide every column window one row down
+                long out = mulMod(cell(matrix[top][c]), rowHigh);
+                colHash[c] = addMod(mulMod(subMod(colHash[c], out), rowBase), cell(matrix[top + pr][c]));
+            }
+        }
+        return ans;
+    }
+
+    // map an int cell to a non-zero residue so zeros still change the hash
+    private static long cell(int v) {
+        return (v & 0xFFFFFFFFL) + 1;
+    }
+
+    private static boolean verify2D(int[][] matrix, int[][] pattern, int top, int left) {
+        for (int r = 0; r < pattern.length; r++) {
+            for (int c = 0; c < pattern[0].length; c++) {
+                if (matrix[top + r][left + c] != pattern[r][c]) return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        String text = "aabaacaadaabaaba";
+        System.out.println(searchAll(text, "aaba"));                  // [0, 9, 12]
+
+        String[] patterns = {"aab", "aad", "baa", "xyz"};
+        searchMany(text, patterns, (id, start) -> System.out.print(patterns[id] + "@" + start + " "));
+        System.out.println();
+
+        System.out.println(duplicateSubstrings("banana", 3));         // [3] -> "ana" repeats
+        System.out.println(longestDuplicateSubstring("banana"));      // ana
+
+        int[][] matrix = {
+                {1, 2, 3, 4},
+                {5, 6, 7, 8},
+                {9, 6, 7, 2},
+                {1, 5, 6, 7}
+        };
+        int[][] pattern = {
+                {6, 7},
+                {6, 7}
+        };
+        for (int[] pos : search2D(matrix, pattern)) System.out.println(Arrays.toString(pos)); // [1, 1]
+    }
+}
@@ -0,0 +1,55 @@
+package StringMatching;
+
+import java.util.Random;
+
+/*
+ RabinKarp.searchAll vs KMP.KMPsearch on adversarial inputs
+
+ ➤ Cases (text length n, pattern length m):
+    - near-miss : text "aaaa...a", pattern "aa...ab" -> brute force's O(n * m) case; no hash ever matches
+    - all-match : text "aaaa...a", pattern "aa...a"  -> every window matches, RK verifies each one
+                  (O(n * m) by construction, KMP stays O(n)) -> shows what verification costs
+    - random    : 4-letter random text, random pattern
+ ➤ Both must report the same number of matches.
+
+ ➤ Usage:
+    java StringMatching.RabinKarpBenchmark [n] [m]   (default 10_000_000, 1000)
+*/
+
+public class RabinKarpBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        String as = "a".repeat(n);
+        Random random = new Random(1);
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) sb.append((char) ('a' + random.nextInt(4)));
+        String rnd = sb.toString();
+
+        String[][] cases = {
+                {"near-miss", as, "a".repeat(m - 1) + "b"},
+                {"all-match", as, "a".repeat(m)},
+                {"random", rnd, rnd.substring(n / 2, n / 2 + m)},
+        };
+
+        System.out.printf("%-10s %12s %12s %10s%n", "case", "rk(ms)", "kmp(ms)", "matches");
+        for (String[] c : cases) {
+            for (int r = 0; r < 2; r++) { // warm-up
+                RabinKarp.searchAll(c[1], c[2]);
+                KMP.KMPsearch(c[1], c[2]);
+            }
+            long start = System.nanoTime();
+            int rk = RabinKarp.searchAll(c[1], c[2]).size();
+            long rkTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int kmp = KMP.KMPsearch(c[1], c[2]).size();
+            long kmpTime = System.nanoTime() - start;
+
+            if (rk != kmp) throw new IllegalStateException(c[0] + ": match counts differ");
+            System.out.printf("%-10s %12.1f %12.1f %10d%n", c[0], rkTime / 1e6, kmpTime / 1e6, rk);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package StringMatching;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class StreamingKMP {
+
+    /*
+     Streaming KMP over bytes
+
+     ➤ Motivation:
+        - KMP.KMPsearch needs the whole text as a String and returns boxed offsets
+          -> a multi-GB log file would have to be decoded onto the heap first.
+        - KMP only ever looks at the current text byte and j (how much of the pattern is matched),
+          so the text can arrive in chunks: keep j between chunks and nothing is lost at a boundary.
+
+     ➤ Inputs:
+        - feed(ByteBuffer)           : any chunk, state carries over to the next call
+        - search(Path)               : file mapped with FileChannel.map in segments (no heap copy)
+        - search(ReadableByteChannel): one reusable direct buffer, refilled until EOF
+
+     ➤ Matches are reported as absolute long offsets through OffsetListener -> no per-match allocation.
+
+     ➤ The pattern is a KMPAutomaton: LpsAutomaton by default, or KmpDfa for a branch-free loop.
+
+     ➤ Time Complexity: O(n + m), Space: O(m) for the LPS table (O(256 * m) for the DFA) + one I/O buffer
+    */
+
+    public interface OffsetListener {
+        void onMatch(long offset);
+    }
+
+    private static final long MAP_SEGMENT = 1L << 28;  // 256 MB per mapping
+    private static final int CHANNEL_BUFFER = 1 << 20; // 1 MB
+
+    private final KMPAutomaton automaton;
+
+    private int j;         // pattern bytes matched so far (survives chunk boundaries)
+    private long position; // absolute offset of the next byte to be fed
+
+    public StreamingKMP(String pattern) {
+        this(pattern.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public StreamingKMP(byte[] pattern) {
+        this(new LpsAutomaton(pattern));
+    }
+
+    // Any compiled form, e.g. new KmpDfa(pattern) for one table lookup per byte
+    public StreamingKMP(KMPAutomaton automaton) {
+        this.automaton = automaton;
+    }
+
+    // Forget any partial match and restart offsets at 0
+    public void reset() {
+        j = 0;
+        position = 0;
+    }
+
+    // Scan chunk from its position to its limit; returns the number of matches found in it
+    public long feed(ByteBuffer chunk, OffsetListener listener) {
+        int m = automaton.length();
+        int state = j;
+        long matches = 0;
+        int from = chunk.position(), to = chunk.limit();
+        long base = position - from;
+
+        for (int i = from; i < to; i++) {
+            state = automaton.next(state, chunk.get(i) & 0xFF);
+            if (state == m) {
+                listener.onMatch(base + i - m + 1);
+                matches++;
+            }
+        }
+
+        chunk.position(to);
+        position += to - from;
+        j = state;
+        return matches;
+    }
+
+    // Memory-map the file segment by segment; nothing is copied onto the heap
+    public long search(Path file, OffsetListener listener) throws IOException {
+        reset();
+        long matches = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long off = 0; off < size; off += MAP_SEGMENT) {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, off, Math.min(MAP_SEGMENT, size - off));
+                matches += feed(segment, listener);
+            }
+        }
+        return matches;
+    }
+
+    // Any channel (socket, pipe, decompressor, ...) through one reusable direct buffer
+    public long search(ReadableByteChannel channel, OffsetListener listener) throws IOException {
+        reset();
+        long matches = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            matches += feed(buffer, listener);
+            buffer.clear();
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String text = "aabaacaadaabaaba";
+        StreamingKMP kmp = new StreamingKMP(new KmpDfa("aaba"));
+
+        // feed in tiny chunks: the match at 12..15 spans a chunk boundary
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        for (int off = 0; off < bytes.length; off += 5) {
+            kmp.feed(ByteBuffer.wrap(bytes, off, Math.min(5, bytes.length - off)),
+                    offset -> System.out.println("Pattern found at index " + offset));
+        }
+
+        Path file = Files.createTempFile("kmp", ".log");
+        try {
+            Files.write(file, bytes);
+            System.out.println("mapped file matches: " + kmp.search(file, offset -> { }));
+            try (ReadableByteChannel ch = Channels.newChannel(Files.newInputStream(file))) {
+                System.out.println("channel matches: " + kmp.search(ch, offset -> { }));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package StringMatching;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class SuffixArray {
+
+    /*
+     Suffix Array + LCP index over a static text
+
+     ➤ Motivation:
+        - KMP / Rabin–Karp / Aho–Corasick rescan the whole text for every query: O(n) per query.
+        - Sort all suffixes of the text once; every occurrence of a pattern P is a prefix of some
+          suffix, and all those suffixes sit next to each other in sorted order
+          -> two binary searches find the whole block: O(m log n) per query.
+
+     ➤ Build:
+        - SA-IS (Nong, Zhang, Chan): classify suffixes as S/L type, sort only the LMS suffixes
+          (recursively, on a reduced string), then induce the order of all other suffixes
+          in two linear sweeps -> O(n) time.
+        - Kasai: lcp[i] = longest common prefix of suffixes sa[i] and sa[i+1], in O(n) using the
+          fact that the LCP drops by at most 1 when moving from suffix i to suffix i+1.
+
+     ➤ Queries:
+        - contains / countOccurrences / findAll : O(m log n) (+ k for the k results of findAll)
+        - longestRepeatedSubstring : max over the LCP array, O(n)
+
+     ➤ Persistence:
+        - save(path) writes text + sa + lcp, load(path) memory-maps the file and answers queries
+          straight from the mapping -> a warm restart skips the build and doesn't copy the index
+          onto the heap. One mapping is used, so an index file must stay below 2 GB
+          (about 200M chars: 2 bytes text + 4 sa + 4 lcp per char).
+    */
+
+    private static final int MAGIC = 0x53414958; // "SAIX"
+
+    private final CharSequence text;
+    private final IntBuffer sa;
+    private final IntBuffer lcp;
+
+    private SuffixArray(CharSequence text, IntBuffer sa, IntBuffer lcp) {
+        this.text = text;
+        this.sa = sa;
+        this.lcp = lcp;
+    }
+
+    public static SuffixArray build(CharSequence text) {
+        int n = text.length();
+
+        // compress the alphabet to 0..upper so the bucket arrays stay small
+        int[] rank = new int[Character.MAX_VALUE + 1];
+        for (int i = 0; i < n; i++) rank[text.charAt(i)] = 1;
+        int upper = -1;
+        for (int c = 0; c < rank.length; c++) {
+            if (rank[c] != 0) rank[c] = ++upper;
+        }
+        int[] s = new int[n];
+        for (int i = 0; i < n; i++) s[i] = rank[text.charAt(i)];
+
+        int[] sa = saIs(s, Math.max(upper, 0));
+        int[] lcp = kasai(s, sa);
+        return new SuffixArray(text.toString(), IntBuffer.wrap(sa), IntBuffer.wrap(lcp));
+    }
+
+    // SA-IS over s with values in [0, upper]
+    static int[] saIs(int[] s, int upper) {
+        int n = s.length;
+        if (n == 0) return new int[0];
+        if (n == 1) return new int[]{0};
+        if (n == 2) return s[0] < s[1] ? new int[]{0, 1} : new int[]{1, 0};
+
+        int[] sa = new int[n];
+        boolean[] ls = new boolean[n]; // true = S-type (suffix i < suffix i+1)
+        for (int i = n - 2; i >= 0; i--) {
+            ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+        }
+
+        // bucket boundaries: sumL[c] = start of c's L bucket, sumS[c] = start of c's S bucket
+        int[] sumL = new int[upper + 1];
+        int[] sumS = new int[upper + 1];
+        for (int i = 0; i < n; i++) {
+            if (!ls[i]) sumS[s[i]]++;
+            else sumL[s[i] + 1]++; // the largest symbol is never S-type, so s[i] + 1 <= upper
+        }
+        for (int i = 0; i <= upper; i++) {
+            sumS[i] += sumL[i];
+            if (i < upper) sumL[i + 1] += sumS[i];
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) {
+            if (!ls[i - 1] && ls[i]) lmsMap[i] = m++;
+        }
+        int[] lms = new int[m];
+        for (int i = 1, k = 0; i < n; i++) {
+            if (!ls[i - 1] && ls[i]) lms[k++] = i;
+        }
+
+        induce(s, sa, ls, sumL, sumS, lms, upper);
+
+        if (m > 0) {
+            // LMS suffixes in the order induced above
+            int[] sortedLms = new int[m];
+            int k = 0;
+            for (int v : sa) {
+                if (lmsMap[v] != -1) sortedLms[k++] = v;
+            }
+
+            // name LMS substrings; equal substrings get equal names
+            int[] recS = new int[m];
+            int recUpper = 0;
+            recS[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int l = sortedLms[i - 1], r = sortedLms[i];
+                int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+                int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if (endL - l != endR - r) {
+                    same = false;
+                } else {
+                    while (l < endL && s[l] == s[r]) {
+                        l++;
+                        r++;
+                    }
+                    if (l == n || s[l] != s[r]) same = false;
+                }
+                if (!same) recUpper++;
+                recS[lmsMap[sortedLms[i]]] = recUpper;
+            }
+
+            // recursion sorts the LMS suffixes exactly, then induce once more from that order
+            int[] recSa = saIs(recS, recUpper);
+            for (int i = 0; i < m; i++) sortedLms[i] = lms[recSa[i]];
+            induce(s, sa, ls, sumL, sumS, sortedLms, upper);
+        }
+        return sa;
+    }
+
+    private static void induce(int[] s, int[] sa, boolean[] ls, int[] sumL, int[] sumS, int[] lms, int upper) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+        int[] buf = new int[upper + 1];
+
+        // LMS suffixes at the start of their S buckets
+        System.arraycopy(sumS, 0, buf, 0, upper + 1);
+        for (int d : lms) {
+            if (d == n) continue;
+            sa[buf[s[d]]++] = d;
+        }
+
+        // L-type suffixes left to right
+        System.arraycopy(sumL, 0, buf, 0, upper + 1);
+        sa[buf[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !ls[v - 1]) sa[buf[s[v - 1]]++] = v - 1;
+        }
+
+        // S-type suffixes right to left, filling buckets from their ends
+        System.arraycopy(sumL, 0, buf, 0, upper + 1);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && ls[v - 1]) sa[--buf[s[v - 1] + 1]] = v - 1;
+        }
+    }
+
+    // Kasai: lcp[i] = LCP(suffix sa[i], suffix sa[i+1])
+    static int[] kasai(int[] s, int[] sa) {
+        int n = s.length;
+        if (n == 0) return new int[0];
+        int[] rnk = new int[n];
+        for (int i = 0; i < n; i++) rnk[sa[i]] = i;
+        int[] lcp = new int[n - 1];
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            if (h > 0) h--;
+            if (rnk[i] == 0) continue;
+            int j = sa[rnk[i] - 1];
+            while (j + h < n && i + h < n && s[j + h] == s[i + h]) h++;
+            lcp[rnk[i] - 1] = h;
+        }
+        return lcp;
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    // compare pattern with the first |pattern| chars of suffix at pos: <0, 0 (prefix), >0
+    private int compare(String pattern, int pos) {
+        int n = text.length();
+        for (int k = 0; k < pattern.length(); k++) {
+            if (pos + k >= n) return 1; // suffix ran out -> pattern is bigger
+            int d = pattern.charAt(k) - text.charAt(pos + k);
+            if (d != 0) return d;
+        }
+        return 0;
+    }
+
+    // first rank whose suffix is >= pattern (strict == false) or > pattern-prefix block (strict == true)
+    private int bound(String pattern, boolean strict) {
+        int lo = 0, hi = text.length();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(pattern, sa.get(mid));
+            if (c > 0 || (strict && c == 0)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public boolean contains(String pattern) {
+        if (pattern.isEmpty()) return true;
+        int lo = bound(pattern, false);
+        return lo < text.length() && compare(pattern, sa.get(lo)) == 0;
+    }
+
+    public int countOccurrences(String pattern) {
+        if (pattern.isEmpty()) return text.length();
+        return bound(pattern, true) - bound(pattern, false);
+    }
+
+    // All start positions, ascending
+    public int[] findAll(String pattern) {
+        if (pattern.isEmpty()) return new int[0];
+        int lo = bound(pattern, false), hi = bound(pattern, true);
+        int[] res = new int[hi - lo];
+        for (int i = lo; i < hi; i++) res[i - lo] = sa.get(i);
+        Arrays.sort(res);
+        return res;
+    }
+
+    // Longest substring occurring at least twice: the maximum adjacent LCP
+    public String longestRepeatedSubstring() {
+        int best = 0, at = 0;
+        for (int i = 0; i < lcp.limit(); i++) {
+            if (lcp.get(i) > best) {
+                best = lcp.get(i);
+                at = sa.get(i);
+            }
+        }
+        return text.subSequence(at, at + best).toString();
+    }
+
+    public void save(Path file) throws IOException {
+        int n = text.length();
+        long bytes = 8 + 2L * n + 4L * n + 4L * Math.max(0, n - 1);
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = ch.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(n);
+            for (int i = 0; i < n; i++) out.putChar(text.charAt(i));
+            for (int i = 0; i < n; i++) out.putInt(sa.get(i));
+            for (int i = 0; i < lcp.limit(); i++) out.putInt(lcp.get(i));
+            out.force();
+        }
+    }
+
+    // Map a saved index; queries read directly from the mapping
+    public static SuffixArray load(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer in = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            in.order(ByteOrder.LITTLE_ENDIAN);
+            if (in.getInt(0) != MAGIC) throw new IOException("not a suffix array index: " + file);
+            int n = in.getInt(4);
+
+            CharBuffer text = slice(in, 8, 2L * n).asCharBuffer();
+            IntBuffer sa = slice(in, 8 + 2L * n, 4L * n).asIntBuffer();
+            IntBuffer lcp = slice(in, 8 + 6L * n, 4L * Math.max(0, n - 1)).asIntBuffer();
+            return new SuffixArray(text, sa, lcp);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buf, long from, long len) {
+        ByteBuffer dup = buf.duplicate();
+        dup.position((int) from).limit((int) (from + len));
+        return dup.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static void main(String[] args) throws IOException {
+        SuffixArray index = SuffixArray.build("banana bandana");
+
+        System.out.println(index.contains("ana"));                       // true
+        System.out.println(index.countOccurrences("an"));                 // 4
+        System.out.println(Arrays.toString(index.findAll("ana")));        // [1, 3, 11]
+        System.out.println(index.longestRepeatedSubstring());             // "ana" (or another of the longest)
+
+        Path file = java.nio.file.Files.createTempFile("sa", ".idx");
+        try {
+            index.save(file);
+            SuffixArray loaded = SuffixArray.load(file);
+            System.out.println(Arrays.toString(loaded.findAll("ban")));  // [0, 7]
+        } finally {
+            java.nio.file.Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package StringMatching;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/*
+ SuffixArray: build once, then many queries vs rescanning with KMP.KMPsearch
+
+ ➤ Text: n random chars over an 8-letter alphabet, q patterns of length 8 cut from the text.
+ ➤ Reports build time, save/load (mmap) time, and q queries through the index vs q KMP scans.
+ ➤ Counts from the built index, the loaded index and KMP must agree.
+
+ ➤ Usage:
+    java -Xmx2g StringMatching.SuffixArrayBenchmark [n] [q]   (default 10_000_000, 200)
+*/
+
+public class SuffixArrayBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int q = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Random random = new Random(18);
+
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) chars[i] = (char) ('a' + random.nextInt(8));
+        String text = new String(chars);
+        String[] patterns = new String[q];
+        for (int i = 0; i < q; i++) {
+            int at = random.nextInt(n - 8);
+            patterns[i] = text.substring(at, at + 8);
+        }
+
+        long start = System.nanoTime();
+        SuffixArray index = SuffixArray.build(text);
+        System.out.printf("build:        %10.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+        Path file = Files.createTempFile("sa", ".idx");
+        try {
+            start = System.nanoTime();
+            index.save(file);
+            System.out.printf("save:         %10.1f ms%n", (System.nanoTime() - start) / 1e6);
+            start = System.nanoTime();
+            SuffixArray loaded = SuffixArray.load(file);
+            System.out.printf("load (mmap):  %10.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            long saHits = 0;
+            for (String p : patterns) saHits += index.countOccurrences(p);
+            long saTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long mappedHits = 0;
+            for (String p : patterns) mappedHits += loaded.countOccurrences(p);
+            long mappedTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long kmpHits = 0;
+            for (String p : patterns) kmpHits += KMP.KMPsearch(text, p).size();
+            long kmpTime = System.nanoTime() - start;
+
+            if (saHits != kmpHits || mappedHits != kmpHits) throw new IllegalStateException("match counts differ");
+            System.out.printf("%d queries: index %.1f ms, mapped index %.1f ms, kmp %.1f ms (%d matches)%n",
+                    q, saTime / 1e6, mappedTime / 1e6, kmpTime / 1e6, kmpHits);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
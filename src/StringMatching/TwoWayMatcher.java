@@ -0,0 +1,145 @@
+package StringMatching;
+
+import java.util.ArrayList;
+
+public final class TwoWayMatcher extends Matcher {
+
+    /*
+     Crochemore–Perrin Two-Way String Matching
+
+     ➤ Idea:
+        - Split the pattern at a "critical factorization" x = u | v (position ell), found from the
+          maximal suffix of x under the normal and the reversed alphabet order.
+        - Match v left to right first; on a mismatch at i shift by (i - ell).
+        - If v matched, match u right to left; on a full match shift by the period.
+        - When the pattern is periodic, remember how much of the next window is already known
+          to match (memory) so no text char is compared twice -> linear time.
+
+     ➤ Time: O(n + m) worst case, Space: O(1) beyond the pattern
+        (unlike KMP there is no LPS table, unlike Horspool there is no O(n * m) worst case).
+        findAll / count stay linear too: after a full match the scan shifts by the period and keeps the
+        memory instead of restarting one char further on.
+    */
+
+    private final int ell;       // critical position: u = x[0..ell], v = x[ell+1..m-1]
+    private final int period;
+    private final boolean periodic;
+
+    public TwoWayMatcher(String pattern) {
+        super(pattern);
+        int m = pattern.length();
+        int[] p = new int[1], q = new int[1];
+        int i = maxSuffix(pattern, p, false);
+        int j = maxSuffix(pattern, q, true);
+
+        int l, per;
+        if (i > j) {
+            l = i;
+            per = p[0];
+        } else {
+            l = j;
+            per = q[0];
+        }
+
+        // periodic iff x[0..ell] is also found at x[per..per+ell]
+        boolean isPeriodic = per + l + 1 <= m && pattern.regionMatches(0, pattern, per, l + 1);
+        this.ell = l;
+        this.periodic = isPeriodic;
+        this.period = isPeriodic ? per : Math.max(l + 1, m - l - 1) + 1;
+    }
+
+    // Start of the maximal suffix (minus one) under the normal or reversed order; period out in per[0]
+    private static int maxSuffix(String x, int[] per, boolean reversed) {
+        int m = x.length();
+        int ms = -1, j = 0, k = 1;
+        per[0] = 1;
+        while (j + k < m) {
+            char a = x.charAt(j + k);
+            char b = x.charAt(ms + k);
+            if (reversed ? a > b : a < b) {
+                j += k;
+                k = 1;
+                per[0] = j - ms;
+            } else if (a == b) {
+                if (k != per[0]) {
+                    k++;
+                } else {
+                    j += per[0];
+                    k = 1;
+                }
+            } else {
+                ms = j;
+                j = ms + 1;
+                k = per[0] = 1;
+            }
+        }
+        return ms;
+    }
+
+    @Override
+    public int indexOf(CharSequence text, int from) {
+        return scan(text, from, true, null);
+    }
+
+    // Continues after each hit with the period shift and memory instead of restarting at i + 1,
+    // so many (overlapping) matches, e.g. "aaaa" in "aaaa…", stay O(n + m)
+    @Override
+    public ArrayList<Integer> findAll(CharSequence text) {
+        ArrayList<Integer> res = new ArrayList<>();
+        scan(text, 0, false, res);
+        return res;
+    }
+
+    @Override
+    public int count(CharSequence text) {
+        return scan(text, 0, false, null);
+    }
+
+    // stopAtFirst: first match >= from or -1; otherwise the number of matches (each added to out if given)
+    private int scan(CharSequence text, int from, boolean stopAtFirst, ArrayList<Integer> out) {
+        int n = text.length();
+        int m = pattern.length();
+        int j = Math.max(from, 0);
+        int count = 0;
+
+        if (periodic) {
+            int memory = -1;
+            while (j <= n - m) {
+                int i = Math.max(ell, memory) + 1;
+                while (i < m && pattern.charAt(i) == text.charAt(i + j)) i++;
+                if (i >= m) {
+                    i = ell;
+                    while (i > memory && pattern.charAt(i) == text.charAt(i + j)) i--;
+                    if (i <= memory) {
+                        if (stopAtFirst) return j;
+                        count++;
+                        if (out != null) out.add(j);
+                    }
+                    j += period;
+                    memory = m - period - 1;
+                } else {
+                    j += i - ell;
+                    memory = -1;
+                }
+            }
+        } else {
+            while (j <= n - m) {
+                int i = ell + 1;
+                while (i < m && pattern.charAt(i) == text.charAt(i + j)) i++;
+                if (i >= m) {
+                    i = ell;
+                    while (i >= 0 && pattern.charAt(i) == text.charAt(i + j)) i--;
+                    if (i < 0) {
+                        if (stopAtFirst) return j;
+                        count++;
+                        if (out != null) out.add(j);
+                    }
+                    j += period; // no occurrence starts closer than max(|u|, |v|) + 1 -> nothing skipped
+                } else {
+                    j += i - ell;
+                }
+            }
+        }
+        return stopAtFirst ? -1 : count;
+    }
+}